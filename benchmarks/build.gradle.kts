@@ -0,0 +1,27 @@
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+    id("org.example.immutable.java-conventions")
+    application
+}
+
+dependencies {
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess")
+
+    implementation(project(":processor"))
+    implementation("org.openjdk.jmh:jmh-core")
+}
+
+application {
+    mainClass.set("org.openjdk.jmh.Main")
+}
+
+tasks.named<JavaExec>("run") {
+    // Report the bytes allocated per operation (gc.alloc.rate.norm) alongside the throughput.
+    args("-prof", "gc")
+}
+
+tasks.withType<JavaCompile> {
+    // JMH does not annotate the code that it generates with @Generated.
+    options.errorprone.excludedPaths.set(".*/build/generated/.*")
+}
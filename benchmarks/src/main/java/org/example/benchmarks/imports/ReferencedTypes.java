@@ -0,0 +1,45 @@
+package org.example.benchmarks.imports;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.example.processor.type.ImportableType;
+
+/**
+ * Creates realistic sets of referenced types for the import benchmarks.
+ *
+ * <p>The types are spread across multiple packages, some types are nested types,
+ * and some simple names are shared by multiple types (including types in {@code java.lang}).</p>
+ */
+final class ReferencedTypes {
+
+    /** Package name for the generated source code. */
+    public static final String PACKAGE_NAME = "com.example.p0";
+
+    private static final Set<ImportableType> COMMON_TYPES = Set.of(
+            ImportableType.of("java.lang.Override"),
+            ImportableType.of("java.lang.String"),
+            ImportableType.of("java.util.Map"),
+            ImportableType.of("java.util.Map$Entry"),
+            ImportableType.of("javax.annotation.processing.Generated"),
+            ImportableType.of("com.example.p1.String"));
+
+    /** Creates a set of referenced types with the provided size. */
+    public static Set<ImportableType> create(int size) {
+        Set<ImportableType> types = new HashSet<>(COMMON_TYPES);
+        int packageCount = Math.max(size / 10, 1);
+        int simpleNameCount = Math.max(size * 3 / 4, 1);
+        for (int i = 0; types.size() < size; i++) {
+            String binaryName = String.format("com.example.p%d.Type%d", i % packageCount, i % simpleNameCount);
+            if (i % 3 == 0) {
+                binaryName = String.format("%s$Nested", binaryName);
+            }
+
+            types.add(ImportableType.of(binaryName));
+        }
+
+        return types;
+    }
+
+    // static class
+    private ReferencedTypes() {}
+}
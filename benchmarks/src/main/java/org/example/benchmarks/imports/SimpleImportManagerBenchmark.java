@@ -0,0 +1,71 @@
+package org.example.benchmarks.imports;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.example.processor.imports.ImportManager;
+import org.example.processor.imports.SimpleImportManager;
+import org.example.processor.imports.TopLevelImportManager;
+import org.example.processor.source.SourceWriter;
+import org.example.processor.type.ImportableType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SimpleImportManager}: building the trie, and shortening the names of referenced types.
+ *
+ * <p>Each invocation of {@link #generateSource()} shortens the name of every referenced type.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class SimpleImportManagerBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private Set<ImportableType> importedTypes;
+    private List<ImportableType> referencedTypes;
+    private ImportManager importManager;
+    private SourceWriter writer;
+
+    @Setup
+    public void setUp() {
+        Set<ImportableType> referencedTypes = ReferencedTypes.create(size);
+        ImportManager topLevelImportManager =
+                TopLevelImportManager.of(ReferencedTypes.PACKAGE_NAME, referencedTypes, Set.of());
+        importedTypes = new HashSet<>(topLevelImportManager.importDeclarations());
+        importedTypes.addAll(topLevelImportManager.implicitlyImportedTypes());
+        this.referencedTypes = List.copyOf(referencedTypes);
+        importManager = SimpleImportManager.of(ReferencedTypes.PACKAGE_NAME, importedTypes);
+        writer = new SourceWriter();
+    }
+
+    @Benchmark
+    public ImportManager of() {
+        return SimpleImportManager.of(ReferencedTypes.PACKAGE_NAME, importedTypes);
+    }
+
+    @Benchmark
+    public SourceWriter generateSource() {
+        writer.clear();
+        for (ImportableType type : referencedTypes) {
+            importManager.generateSource(writer, type);
+        }
+
+        return writer;
+    }
+}
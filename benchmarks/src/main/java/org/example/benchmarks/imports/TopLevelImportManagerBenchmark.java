@@ -0,0 +1,45 @@
+package org.example.benchmarks.imports;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.example.processor.imports.ImportManager;
+import org.example.processor.imports.TopLevelImportManager;
+import org.example.processor.type.ImportableType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks {@link TopLevelImportManager}: resolving conflicts, and then building the trie. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class TopLevelImportManagerBenchmark {
+
+    private static final Set<String> IN_SCOPE_NAMES = Set.of("T", "Type0");
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    private Set<ImportableType> referencedTypes;
+
+    @Setup
+    public void setUp() {
+        referencedTypes = ReferencedTypes.create(size);
+    }
+
+    @Benchmark
+    public ImportManager of() {
+        return TopLevelImportManager.of(ReferencedTypes.PACKAGE_NAME, referencedTypes, IN_SCOPE_NAMES);
+    }
+}
@@ -16,4 +16,24 @@ import java.lang.annotation.Target;
  */
 @Target(ElementType.TYPE)
 @Documented
-public @interface Immutable {}
+public @interface Immutable {
+
+    /**
+     * Determines if the implementation has a {@code with[Member]()} method for each member,
+     * which returns a copy of the instance with a new value for that member.
+     *
+     * <p>If the new value is identical to the current value, the instance itself is returned.
+     * Values are compared via {@code ==}, except that {@code float} and {@code double} values are compared bitwise.</p>
+     */
+    boolean withers() default false;
+
+    /**
+     * Determines if the implementation has a nested {@code Builder} class, which is created via {@code builder()}.
+     *
+     * <p>The builder can be reused: {@code clear()} resets it, so that one builder can create many instances.
+     * Primitive values are stored without boxing, and {@code build()} throws an {@link IllegalStateException}
+     * if any member has not been set. A member must not be named {@code builder}, since it would clash with
+     * {@code builder()}.</p>
+     */
+    boolean builder() default false;
+}
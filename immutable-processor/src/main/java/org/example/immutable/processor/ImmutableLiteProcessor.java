@@ -1,37 +1,122 @@
 package org.example.immutable.processor;
 
 import java.io.IOException;
+import java.util.IdentityHashMap;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import javax.inject.Inject;
+import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
 import org.example.immutable.Immutable;
+import org.example.immutable.processor.cache.CacheEntry;
+import org.example.immutable.processor.cache.Fingerprints;
+import org.example.immutable.processor.cache.ModelCache;
 import org.example.immutable.processor.generator.ImmutableGenerator;
 import org.example.immutable.processor.model.ImmutableImpl;
 import org.example.immutable.processor.modeler.ImmutableImpls;
-import org.example.processor.base.IsolatingLiteProcessor;
+import org.example.processor.base.ParallelIsolatingLiteProcessor;
 import org.example.processor.base.ProcessorScope;
+import org.example.processor.stats.ProcessorStats;
+import org.example.processor.type.ImportableTypeResolver;
+import org.example.processor.type.TopLevelTypeResolver;
 
-/** Processes interfaces annotated with {@link Immutable}. */
+/**
+ * Processes interfaces annotated with {@link Immutable}.
+ *
+ * <p>Each {@link ImmutableImpl} is modeled on the compiler thread, and its source is rendered on the common pool.
+ * The import manager of each {@link ImmutableImpl} is resolved lazily while its source is rendered;
+ * it cannot be shared with other {@link ImmutableImpl}'s, since it imports the implementation and interface types.
+ * Work that is shared within a package (the base trie of the import managers) is cached by the import managers.</p>
+ *
+ * <p>If the model cache is enabled, an interface whose fingerprint has not changed since the last build
+ * is neither modeled nor rendered; its cached source is written instead. Otherwise, its rendered source is stored
+ * after it is written. Loading and storing entries is recorded via {@link ProcessorStats}
+ * as {@code cache.load} and {@code cache.store}.</p>
+ */
 @ProcessorScope
-final class ImmutableLiteProcessor extends IsolatingLiteProcessor<TypeElement> {
+final class ImmutableLiteProcessor extends ParallelIsolatingLiteProcessor<TypeElement, ImmutableImpl> {
+
+    private static final Executor EXECUTOR = ForkJoinPool.commonPool();
 
     private final ImmutableImpls implFactory;
-    private final ImmutableGenerator generator;
+    private final Fingerprints fingerprints;
+    private final ModelCache modelCache;
+    private final ImportableTypeResolver typeResolver;
+    private final TopLevelTypeResolver topLevelTypeResolver;
+    private final ProcessorStats stats;
+    private final IdentityHashMap<ImmutableImpl, String> cachedSources = new IdentityHashMap<>();
 
     @Inject
-    ImmutableLiteProcessor(ImmutableImpls implFactory, ImmutableGenerator generator) {
-        super(Immutable.class);
+    ImmutableLiteProcessor(
+            ImmutableImpls implFactory,
+            ImmutableGenerator generator,
+            Fingerprints fingerprints,
+            ModelCache modelCache,
+            ImportableTypeResolver typeResolver,
+            TopLevelTypeResolver topLevelTypeResolver,
+            ProcessorStats stats) {
+        super(Immutable.class, generator, EXECUTOR, stats);
         this.implFactory = implFactory;
-        this.generator = generator;
+        this.fingerprints = fingerprints;
+        this.modelCache = modelCache;
+        this.typeResolver = typeResolver;
+        this.topLevelTypeResolver = topLevelTypeResolver;
+        this.stats = stats;
+    }
+
+    @Override
+    protected Optional<ImmutableImpl> createModel(TypeElement typeElement) {
+        Optional<CacheEntry> maybeEntry = loadCacheEntry(typeElement);
+        if (maybeEntry.isPresent()) {
+            CacheEntry entry = maybeEntry.get();
+            cachedSources.put(entry.impl(), entry.source());
+            return Optional.of(entry.impl());
+        }
+
+        return implFactory.create(typeElement);
     }
 
     @Override
-    protected void process(TypeElement typeElement) throws IOException {
-        Optional<ImmutableImpl> maybeImpl = implFactory.create(typeElement);
-        if (maybeImpl.isEmpty()) {
+    protected CharSequence renderSource(ImmutableImpl impl) {
+        // The cached sources are only modified on the compiler thread, before rendering starts or after it finishes.
+        String cachedSource = cachedSources.get(impl);
+        return (cachedSource != null) ? cachedSource : super.renderSource(impl);
+    }
+
+    @Override
+    protected void sourceFileWritten(TypeElement typeElement, ImmutableImpl impl, CharSequence source)
+            throws IOException {
+        if (!modelCache.isEnabled() || cachedSources.containsKey(impl)) {
             return;
         }
-        ImmutableImpl impl = maybeImpl.get();
-        generator.generateSourceFile(impl, typeElement);
+
+        Name typeName = typeElement.getQualifiedName();
+        try (ProcessorStats.Span span = stats.start("cache.store", typeName)) {
+            String fingerprint = fingerprints.create(typeElement);
+            modelCache.store(typeName, fingerprint, impl, source.toString());
+        }
+    }
+
+    @Override
+    protected void endRound() {
+        typeResolver.clear();
+        topLevelTypeResolver.clear();
+        fingerprints.clear();
+        implFactory.clear();
+        cachedSources.clear();
+    }
+
+    /** Loads the cache entry for the interface if it can be reused. */
+    private Optional<CacheEntry> loadCacheEntry(TypeElement typeElement) {
+        if (!modelCache.isEnabled()) {
+            return Optional.empty();
+        }
+
+        Name typeName = typeElement.getQualifiedName();
+        try (ProcessorStats.Span span = stats.start("cache.load", typeName)) {
+            String fingerprint = fingerprints.create(typeElement);
+            return modelCache.load(typeName, fingerprint).filter(entry -> implFactory.canReuse(entry.impl()));
+        }
     }
 }
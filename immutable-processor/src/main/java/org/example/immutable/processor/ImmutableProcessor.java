@@ -29,7 +29,7 @@ public final class ImmutableProcessor extends AdapterProcessor {
 
     @Override
     public Set<String> getSupportedOptions() {
-        return Set.of();
+        return Set.of(ImmutableProcessorModule.STATS_OPTION, ImmutableProcessorModule.CACHE_DIR_OPTION);
     }
 
     @Override
@@ -54,7 +54,7 @@ public final class ImmutableProcessor extends AdapterProcessor {
         return processorComponent.liteProcessor();
     }
 
-    @Component(modules = ProcessorModule.class)
+    @Component(modules = {ProcessorModule.class, ImmutableProcessorModule.class})
     @ProcessorScope
     interface ProcessorComponent {
 
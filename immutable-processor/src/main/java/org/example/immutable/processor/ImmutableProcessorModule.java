@@ -0,0 +1,32 @@
+package org.example.immutable.processor;
+
+import dagger.Module;
+import dagger.Provides;
+import java.util.Map;
+import org.example.immutable.processor.cache.ModelCache;
+import org.example.processor.base.ProcessorScope;
+import org.example.processor.stats.ProcessorStats;
+import org.example.processor.type.ImportableTypes;
+
+/** Provides objects that are configured via the options for {@link ImmutableProcessor}. */
+@Module
+public interface ImmutableProcessorModule {
+
+    /** Option whose value is the path of the JSON stats report; stats are not recorded if it is absent. */
+    String STATS_OPTION = "immutable.stats";
+
+    /** Option whose value is the directory of the model cache; models are not cached if it is absent. */
+    String CACHE_DIR_OPTION = "immutable.cacheDir";
+
+    @Provides
+    @ProcessorScope
+    static ProcessorStats provideStats(Map<String, String> options) {
+        return ProcessorStats.fromOptions(options, STATS_OPTION);
+    }
+
+    @Provides
+    @ProcessorScope
+    static ModelCache provideModelCache(Map<String, String> options, ImportableTypes importableTypes) {
+        return ModelCache.fromOptions(options, CACHE_DIR_OPTION, importableTypes);
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.immutable.processor.cache;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Derives the salt of fingerprints from the build of the processor.
+ *
+ * <p>The salt is a hash of the code sources (i.e., JAR files or class directories) that contain the processor classes,
+ * so a cache entry written by any other build of the processor is never reused. If a code source cannot be read,
+ * a random salt is used instead, so that no cache entries are reused.</p>
+ *
+ * <p>Code sources do not change while they are loaded, so each code source is hashed once.</p>
+ */
+public final class BuildSalt {
+
+    private static final Map<Path, String> hashesByPath = new ConcurrentHashMap<>();
+
+    /** Derives the salt from the code sources of the classes. */
+    public static String of(Collection<Class<?>> classes) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        classes.stream()
+                .map(BuildSalt::getCodeSourcePath)
+                .distinct()
+                .map(maybePath -> maybePath.map(BuildSalt::getHash).orElseGet(BuildSalt::getRandomHash))
+                .forEach(hash -> hasher.putString(hash, StandardCharsets.UTF_8));
+        return hasher.hash().toString();
+    }
+
+    /** Gets the path of the code source that contains the class, if it is a local file or directory. */
+    private static Optional<Path> getCodeSourcePath(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        URL location = (codeSource != null) ? codeSource.getLocation() : null;
+        if ((location == null) || !location.getProtocol().equals("file")) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Path.of(location.toURI()));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /** Gets the hash of a code source, or a random hash if it cannot be read. */
+    private static String getHash(Path path) {
+        try {
+            return hashesByPath.computeIfAbsent(path, BuildSalt::hashCodeSource);
+        } catch (UncheckedIOException e) {
+            return getRandomHash();
+        }
+    }
+
+    /** Hashes a JAR file, or the class files in a directory. */
+    private static String hashCodeSource(Path path) {
+        try {
+            if (!Files.isDirectory(path)) {
+                return Hashing.sha256().hashBytes(Files.readAllBytes(path)).toString();
+            }
+
+            Hasher hasher = Hashing.sha256().newHasher();
+            for (Path classPath : getClassPaths(path)) {
+                hasher.putString(path.relativize(classPath).toString(), StandardCharsets.UTF_8);
+                hasher.putBytes(Files.readAllBytes(classPath));
+            }
+            return hasher.hash().toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Gets the paths of all class files in a directory, in a stable order. */
+    private static List<Path> getClassPaths(Path dirPath) throws IOException {
+        try (Stream<Path> paths = Files.walk(dirPath)) {
+            return paths.filter(path -> path.toString().endsWith(".class"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String getRandomHash() {
+        return UUID.randomUUID().toString();
+    }
+
+    // static class
+    private BuildSalt() {}
+}
@@ -0,0 +1,36 @@
+package org.example.immutable.processor.cache;
+
+import org.example.immutable.processor.model.ImmutableImpl;
+import org.immutables.value.Value;
+
+/** Cached {@link ImmutableImpl} and its generated source, for an interface with a given fingerprint. */
+@Value.Immutable
+public interface CacheEntry {
+
+    /** Creates a {@link CacheEntry}, hashing the generated source. */
+    static CacheEntry of(String fingerprint, ImmutableImpl impl, String source) {
+        return of(fingerprint, impl, source, ModelCache.hash(source));
+    }
+
+    /** Creates a {@link CacheEntry} with a previously computed hash of the generated source. */
+    static CacheEntry of(String fingerprint, ImmutableImpl impl, String source, String sourceHash) {
+        return ImmutableCacheEntry.builder()
+                .fingerprint(fingerprint)
+                .impl(impl)
+                .source(source)
+                .sourceHash(sourceHash)
+                .build();
+    }
+
+    /** Gets the fingerprint of the interface. */
+    String fingerprint();
+
+    /** Gets the implementation of the interface. */
+    ImmutableImpl impl();
+
+    /** Gets the generated source. */
+    String source();
+
+    /** Gets the hash of the generated source, which is used to detect a corrupted entry. */
+    String sourceHash();
+}
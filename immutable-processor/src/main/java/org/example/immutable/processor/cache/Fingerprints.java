@@ -0,0 +1,205 @@
+package org.example.immutable.processor.cache;
+
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import org.example.immutable.Immutable;
+import org.example.processor.base.ProcessorScope;
+import org.example.processor.imports.ImportManager;
+import org.example.processor.type.ImportableTypeResolver;
+
+/**
+ * Creates stable fingerprints of interfaces annotated with {@link Immutable}.
+ *
+ * <p>The fingerprint covers everything that the generated source depends on: the build of the processor,
+ * the qualified name, annotations, and modifiers of the interface (and its enclosing types), its type parameters,
+ * and the signatures of the members of the interface and its superinterfaces. Referenced types are identified
+ * by their binary names.</p>
+ *
+ * <p>The build of the processor is identified by a salt from {@link BuildSalt},
+ * so changes to the processor invalidate all fingerprints without maintaining a version by hand.</p>
+ *
+ * <p>Only declared members are visited, so creating a fingerprint is much cheaper than creating a model.</p>
+ *
+ * <p>Fingerprints are memoized, since the fingerprint of an interface is used both to load and to store its cache entry.
+ * Elements are canonical within a round, so the memo is an identity map; it should be cleared at the end of each round
+ * via {@link #clear()}.</p>
+ */
+@ProcessorScope
+public final class Fingerprints {
+
+    /** Classes of the processor; the salt is derived from the code sources that contain them. */
+    private static final List<Class<?>> PROCESSOR_CLASSES = List.of(Fingerprints.class, ImportManager.class);
+
+    private final ImportableTypeResolver typeResolver;
+    private final String buildSalt;
+    private final IdentityHashMap<TypeElement, String> fingerprintsByElement = new IdentityHashMap<>();
+
+    @Inject
+    Fingerprints(ImportableTypeResolver typeResolver) {
+        this(typeResolver, BuildSalt.of(PROCESSOR_CLASSES));
+    }
+
+    Fingerprints(ImportableTypeResolver typeResolver, String buildSalt) {
+        this.typeResolver = typeResolver;
+        this.buildSalt = buildSalt;
+    }
+
+    /** Creates the fingerprint of an interface, or gets the memoized fingerprint. */
+    public String create(TypeElement typeElement) {
+        return fingerprintsByElement.computeIfAbsent(typeElement, this::createFingerprint);
+    }
+
+    /** Clears the memoized fingerprints, so that elements from previous rounds are not retained. */
+    public void clear() {
+        fingerprintsByElement.clear();
+    }
+
+    /** Creates the fingerprint of an interface. */
+    private String createFingerprint(TypeElement typeElement) {
+        StringBuilder signature = new StringBuilder();
+        signature.append("salt ").append(buildSalt).append('\n');
+        appendEnclosingTypes(signature, typeElement);
+        appendHierarchy(signature, typeElement, new HashSet<>());
+        return ModelCache.hash(signature);
+    }
+
+    /** Appends the interface and its enclosing types, with their modifiers and annotations. */
+    private void appendEnclosingTypes(StringBuilder signature, TypeElement typeElement) {
+        for (Element element = typeElement;
+                element.getKind() != ElementKind.PACKAGE;
+                element = element.getEnclosingElement()) {
+            signature.append(element.getKind()).append(' ');
+            signature.append(element.getModifiers()).append(' ');
+            signature.append(element.getAnnotationMirrors()).append(' ');
+            signature.append(element.getSimpleName()).append('\n');
+        }
+    }
+
+    /** Appends the declared members of the interface and its superinterfaces, visiting each interface once. */
+    private void appendHierarchy(StringBuilder signature, TypeElement typeElement, Set<String> visitedTypes) {
+        String binaryName = typeResolver.resolve(typeElement).binaryName();
+        if (!visitedTypes.add(binaryName)) {
+            return;
+        }
+
+        signature.append("type ").append(binaryName);
+        appendTypeParams(signature, typeElement.getTypeParameters());
+        signature.append(" extends ");
+        appendTypes(signature, typeElement.getInterfaces());
+        signature.append('\n');
+        for (Element memberElement : typeElement.getEnclosedElements()) {
+            appendMember(signature, memberElement);
+        }
+
+        for (TypeMirror superinterface : typeElement.getInterfaces()) {
+            if (superinterface.getKind() == TypeKind.DECLARED) {
+                TypeElement superinterfaceElement = (TypeElement) ((DeclaredType) superinterface).asElement();
+                appendHierarchy(signature, superinterfaceElement, visitedTypes);
+            }
+        }
+    }
+
+    /** Appends the signature of a declared member. */
+    private void appendMember(StringBuilder signature, Element memberElement) {
+        signature.append("  ").append(memberElement.getKind()).append(' ');
+        signature.append(memberElement.getModifiers()).append(' ');
+        signature.append(memberElement.getSimpleName());
+        if (memberElement instanceof ExecutableElement methodElement) {
+            appendTypeParams(signature, methodElement.getTypeParameters());
+            signature.append('(');
+            List<TypeMirror> paramTypes =
+                    methodElement.getParameters().stream().map(Element::asType).toList();
+            appendTypes(signature, paramTypes);
+            signature.append(") ");
+            appendType(signature, methodElement.getReturnType());
+        }
+        signature.append('\n');
+    }
+
+    /** Appends type parameters, including their bounds. */
+    private void appendTypeParams(StringBuilder signature, List<? extends TypeParameterElement> typeParamElements) {
+        if (typeParamElements.isEmpty()) {
+            return;
+        }
+
+        signature.append('<');
+        for (int i = 0; i < typeParamElements.size(); i++) {
+            TypeParameterElement typeParamElement = typeParamElements.get(i);
+            signature.append((i == 0) ? "" : ", ").append(typeParamElement.getSimpleName());
+            signature.append(" extends ");
+            appendTypes(signature, typeParamElement.getBounds());
+        }
+        signature.append('>');
+    }
+
+    /** Appends a comma-separated list of types. */
+    private void appendTypes(StringBuilder signature, List<? extends TypeMirror> types) {
+        for (int i = 0; i < types.size(); i++) {
+            signature.append((i == 0) ? "" : ", ");
+            appendType(signature, types.get(i));
+        }
+    }
+
+    /** Appends a type, identifying declared types by their binary names. */
+    private void appendType(StringBuilder signature, TypeMirror type) {
+        switch (type.getKind()) {
+            case DECLARED -> appendDeclaredType(signature, (DeclaredType) type);
+            case ARRAY -> {
+                appendType(signature, ((ArrayType) type).getComponentType());
+                signature.append("[]");
+            }
+            case WILDCARD -> appendWildcardType(signature, (WildcardType) type);
+            case TYPEVAR -> signature.append(((TypeVariable) type).asElement().getSimpleName());
+            case ERROR -> signature.append('!').append(type);
+            default -> signature.append(type);
+        }
+    }
+
+    /** Appends a declared type, including its type arguments and those of any enclosing types. */
+    private void appendDeclaredType(StringBuilder signature, DeclaredType type) {
+        TypeMirror enclosingType = type.getEnclosingType();
+        if (enclosingType.getKind() == TypeKind.DECLARED) {
+            appendDeclaredType(signature, (DeclaredType) enclosingType);
+            signature.append('.').append(type.asElement().getSimpleName());
+        } else {
+            signature.append(
+                    typeResolver.resolve((TypeElement) type.asElement()).binaryName());
+        }
+
+        List<? extends TypeMirror> typeArgs = type.getTypeArguments();
+        if (typeArgs.isEmpty()) {
+            return;
+        }
+
+        signature.append('<');
+        appendTypes(signature, typeArgs);
+        signature.append('>');
+    }
+
+    /** Appends a wildcard type, including its bound. */
+    private void appendWildcardType(StringBuilder signature, WildcardType type) {
+        signature.append('?');
+        if (type.getExtendsBound() != null) {
+            signature.append(" extends ");
+            appendType(signature, type.getExtendsBound());
+        }
+        if (type.getSuperBound() != null) {
+            signature.append(" super ");
+            appendType(signature, type.getSuperBound());
+        }
+    }
+}
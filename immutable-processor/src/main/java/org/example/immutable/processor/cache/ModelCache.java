@@ -0,0 +1,106 @@
+package org.example.immutable.processor.cache;
+
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import org.example.immutable.processor.model.ImmutableImpl;
+import org.example.processor.type.ImportableTypes;
+
+/**
+ * Persists {@link CacheEntry}'s across builds, in a directory that is selected via a processor option.
+ *
+ * <p>Each interface has a single entry, which is a file named after the interface's qualified name.
+ * Entries are encoded via {@link ModelCodec}, which is much more compact and faster to decode than JSON.
+ * An entry is only loaded if its fingerprint matches the current fingerprint of the interface;
+ * a missing, stale, or corrupted entry is simply a cache miss.
+ * Types in loaded entries are resolved via {@link ImportableTypes}, so they are canonical.</p>
+ *
+ * <p>Entries are written atomically, so concurrent builds that share a directory will not see partial entries.</p>
+ */
+public final class ModelCache {
+
+    private static final ModelCache DISABLED = new ModelCache(null, null);
+
+    private final Path cacheDir;
+    private final ImportableTypes importableTypes;
+
+    /** Gets a disabled {@link ModelCache}, which caches nothing. */
+    public static ModelCache disabled() {
+        return DISABLED;
+    }
+
+    /** Creates a {@link ModelCache} that is enabled if the option provides the cache directory. */
+    public static ModelCache fromOptions(Map<String, String> options, String option, ImportableTypes importableTypes) {
+        String cacheDir = options.get(option);
+        return (cacheDir != null) ? new ModelCache(Path.of(cacheDir), importableTypes) : DISABLED;
+    }
+
+    /** Determines if entries are cached. */
+    public boolean isEnabled() {
+        return cacheDir != null;
+    }
+
+    /** Loads the entry for the interface if its fingerprint matches, or returns empty otherwise. */
+    public Optional<CacheEntry> load(CharSequence qualifiedName, String fingerprint) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        Path entryPath = getEntryPath(qualifiedName);
+        if (!Files.isRegularFile(entryPath)) {
+            return Optional.empty();
+        }
+
+        CacheEntry entry;
+        try {
+            entry = ModelCodec.decodeEntry(Files.readAllBytes(entryPath), importableTypes);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+
+        if (!entry.fingerprint().equals(fingerprint) || !entry.sourceHash().equals(hash(entry.source()))) {
+            return Optional.empty();
+        }
+
+        return Optional.of(entry);
+    }
+
+    /** Stores the entry for the interface, replacing any existing entry. */
+    public void store(CharSequence qualifiedName, String fingerprint, ImmutableImpl impl, String source)
+            throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Files.createDirectories(cacheDir);
+        Path entryPath = getEntryPath(qualifiedName);
+        Path tempPath = Files.createTempFile(cacheDir, entryPath.getFileName().toString(), ".tmp");
+        try {
+            CacheEntry entry = CacheEntry.of(fingerprint, impl, source);
+            Files.write(tempPath, ModelCodec.encode(entry));
+            Files.move(tempPath, entryPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /** Hashes a string using SHA-256. */
+    static String hash(CharSequence s) {
+        return Hashing.sha256().hashString(s, StandardCharsets.UTF_8).toString();
+    }
+
+    /** Gets the path of the entry for the interface. */
+    private Path getEntryPath(CharSequence qualifiedName) {
+        return cacheDir.resolve(String.format("%s.bin", qualifiedName));
+    }
+
+    private ModelCache(Path cacheDir, ImportableTypes importableTypes) {
+        this.cacheDir = cacheDir;
+        this.importableTypes = importableTypes;
+    }
+}
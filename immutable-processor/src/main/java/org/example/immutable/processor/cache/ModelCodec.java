@@ -0,0 +1,342 @@
+package org.example.immutable.processor.cache;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.example.immutable.processor.model.ImmutableImpl;
+import org.example.immutable.processor.model.ImmutableMember;
+import org.example.immutable.processor.model.ImmutableOptions;
+import org.example.immutable.processor.model.ImmutableType;
+import org.example.immutable.processor.model.MemberType;
+import org.example.processor.type.ImportableType;
+import org.example.processor.type.ImportableTypes;
+
+/**
+ * Encodes {@link ImmutableImpl}'s and {@link CacheEntry}'s in a compact binary format.
+ *
+ * <p>The format consists of a header, a string table, and a body. All integers are unsigned varints.
+ * Each string is stored once in the string table, as its UTF-8 length and bytes;
+ * the body then refers to strings by their index in the table.
+ * Thus, binary names that are repeated throughout a model (e.g., {@code java.lang.String}) are stored once.</p>
+ *
+ * <p>The body of each model is encoded as follows:</p>
+ *
+ * <ul>
+ *     <li>{@link ImportableType}: binary name (string)</li>
+ *     <li>{@link MemberType}: name format (string), number of arguments, arguments ({@link ImportableType})</li>
+ *     <li>{@link ImmutableMember}: name (string), type ({@link MemberType})</li>
+ *     <li>{@link ImmutableType}: implementation type ({@link MemberType}), interface type ({@link MemberType})</li>
+ *     <li>{@link ImmutableOptions}: flags (bit 0: withers, bit 1: builder)</li>
+ *     <li>{@link ImmutableImpl}: type ({@link ImmutableType}), number of members,
+ *     members ({@link ImmutableMember}), options ({@link ImmutableOptions})</li>
+ *     <li>{@link CacheEntry}: fingerprint (string), source hash (string), source (string), impl
+ *     ({@link ImmutableImpl})</li>
+ * </ul>
+ *
+ * <p>The header is not versioned. A {@link CacheEntry} written by another build of the processor is never reused,
+ * since its fingerprint is salted by that build; if its encoding differs, decoding fails or yields a stale fingerprint.</p>
+ *
+ * <p>When decoding, each distinct binary name is resolved to its canonical {@link ImportableType}
+ * via {@link ImportableTypes} only once.</p>
+ */
+public final class ModelCodec {
+
+    private static final int MAGIC = 0xC0DE;
+    private static final int IMPL_KIND = 0;
+    private static final int ENTRY_KIND = 1;
+    private static final int WITHERS_FLAG = 1;
+    private static final int BUILDER_FLAG = 2;
+    private static final int ALL_FLAGS = WITHERS_FLAG | BUILDER_FLAG;
+
+    /** Encodes an {@link ImmutableImpl}. */
+    public static byte[] encode(ImmutableImpl impl) {
+        Encoder encoder = new Encoder();
+        encoder.writeImpl(impl);
+        return encoder.toByteArray(IMPL_KIND);
+    }
+
+    /** Encodes a {@link CacheEntry}. */
+    public static byte[] encode(CacheEntry entry) {
+        Encoder encoder = new Encoder();
+        encoder.writeString(entry.fingerprint());
+        encoder.writeString(entry.sourceHash());
+        encoder.writeString(entry.source());
+        encoder.writeImpl(entry.impl());
+        return encoder.toByteArray(ENTRY_KIND);
+    }
+
+    /** Decodes an {@link ImmutableImpl}, throwing an {@link IOException} if the encoding is malformed. */
+    public static ImmutableImpl decodeImpl(byte[] bytes, ImportableTypes importableTypes) throws IOException {
+        Decoder decoder = new Decoder(bytes, IMPL_KIND, importableTypes);
+        ImmutableImpl impl = decoder.readImpl();
+        decoder.checkEnd();
+        return impl;
+    }
+
+    /** Decodes a {@link CacheEntry}, throwing an {@link IOException} if the encoding is malformed. */
+    public static CacheEntry decodeEntry(byte[] bytes, ImportableTypes importableTypes) throws IOException {
+        Decoder decoder = new Decoder(bytes, ENTRY_KIND, importableTypes);
+        String fingerprint = decoder.readString();
+        String sourceHash = decoder.readString();
+        String source = decoder.readString();
+        ImmutableImpl impl = decoder.readImpl();
+        decoder.checkEnd();
+        return CacheEntry.of(fingerprint, impl, source, sourceHash);
+    }
+
+    // static class
+    private ModelCodec() {}
+
+    /** Growable byte buffer that writes unsigned varints. */
+    private static final class VarintBuffer {
+
+        private byte[] bytes;
+        private int length = 0;
+
+        public VarintBuffer(int initialCapacity) {
+            bytes = new byte[initialCapacity];
+        }
+
+        /** Writes an unsigned varint: 7 bits per byte, with the high bit set on all but the last byte. */
+        public void writeVarint(int value) {
+            ensureCapacity(length + 5);
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        /** Writes raw bytes. */
+        public void writeBytes(byte[] b) {
+            ensureCapacity(length + b.length);
+            System.arraycopy(b, 0, bytes, length, b.length);
+            length += b.length;
+        }
+
+        /** Writes the contents of another buffer. */
+        public void writeBuffer(VarintBuffer buffer) {
+            ensureCapacity(length + buffer.length);
+            System.arraycopy(buffer.bytes, 0, bytes, length, buffer.length);
+            length += buffer.length;
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if (minCapacity <= bytes.length) {
+                return;
+            }
+
+            int capacity = Math.max(bytes.length * 2, minCapacity);
+            bytes = Arrays.copyOf(bytes, capacity);
+        }
+    }
+
+    /** Writes the body while building the string table, and then assembles the encoding. */
+    private static final class Encoder {
+
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final VarintBuffer body = new VarintBuffer(256);
+
+        public void writeImpl(ImmutableImpl impl) {
+            writeType(impl.type());
+            List<ImmutableMember> members = impl.members();
+            body.writeVarint(members.size());
+            members.forEach(this::writeMember);
+            writeOptions(impl.options());
+        }
+
+        public void writeString(String s) {
+            Integer index = stringIndexes.get(s);
+            if (index == null) {
+                index = strings.size();
+                stringIndexes.put(s, index);
+                strings.add(s);
+            }
+            body.writeVarint(index);
+        }
+
+        /** Assembles the header, the string table, and the body. */
+        public byte[] toByteArray(int kind) {
+            List<byte[]> encodedStrings = strings.stream()
+                    .map(s -> s.getBytes(StandardCharsets.UTF_8))
+                    .toList();
+            int tableLength =
+                    encodedStrings.stream().mapToInt(b -> b.length + 5).sum();
+            VarintBuffer buffer = new VarintBuffer(20 + tableLength + body.length);
+            buffer.writeVarint(MAGIC);
+            buffer.writeVarint(kind);
+            buffer.writeVarint(encodedStrings.size());
+            for (byte[] encodedString : encodedStrings) {
+                buffer.writeVarint(encodedString.length);
+                buffer.writeBytes(encodedString);
+            }
+            buffer.writeBuffer(body);
+            return buffer.toByteArray();
+        }
+
+        private void writeType(ImmutableType type) {
+            writeMemberType(type.implType());
+            writeMemberType(type.interfaceType());
+        }
+
+        private void writeOptions(ImmutableOptions options) {
+            int flags = (options.withers() ? WITHERS_FLAG : 0) | (options.hasBuilder() ? BUILDER_FLAG : 0);
+            body.writeVarint(flags);
+        }
+
+        private void writeMember(ImmutableMember member) {
+            writeString(member.name());
+            writeMemberType(member.type());
+        }
+
+        private void writeMemberType(MemberType type) {
+            writeString(type.nameFormat());
+            List<ImportableType> args = type.args();
+            body.writeVarint(args.size());
+            args.forEach(this::writeImportableType);
+        }
+
+        private void writeImportableType(ImportableType type) {
+            writeString(type.binaryName());
+        }
+    }
+
+    /** Reads the header and the string table, and then reads the body. */
+    private static final class Decoder {
+
+        private final byte[] bytes;
+        private final ImportableTypes importableTypes;
+        private final String[] strings;
+        private final ImportableType[] decodedTypes;
+        private int position = 0;
+
+        public Decoder(byte[] bytes, int expectedKind, ImportableTypes importableTypes) throws IOException {
+            this.bytes = bytes;
+            this.importableTypes = importableTypes;
+            if (readVarint() != MAGIC) {
+                throw new IOException("malformed encoding: not an encoded model");
+            }
+
+            int kind = readVarint();
+            if (kind != expectedKind) {
+                throw new IOException(String.format("malformed encoding: unexpected kind %d", kind));
+            }
+
+            strings = new String[readLength()];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readLength();
+                strings[i] = new String(bytes, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+            decodedTypes = new ImportableType[strings.length];
+        }
+
+        public ImmutableImpl readImpl() throws IOException {
+            ImmutableType type = readType();
+            int memberCount = readLength();
+            List<ImmutableMember> members = new ArrayList<>(memberCount);
+            for (int i = 0; i < memberCount; i++) {
+                members.add(readMember());
+            }
+            ImmutableOptions options = readOptions();
+            return ImmutableImpl.of(type, members, options);
+        }
+
+        public String readString() throws IOException {
+            return strings[readStringIndex()];
+        }
+
+        /** Checks that the entire encoding has been read. */
+        public void checkEnd() throws IOException {
+            if (position != bytes.length) {
+                throw new IOException("malformed encoding: trailing bytes");
+            }
+        }
+
+        private ImmutableType readType() throws IOException {
+            MemberType implType = readMemberType();
+            MemberType interfaceType = readMemberType();
+            return ImmutableType.of(implType, interfaceType);
+        }
+
+        private ImmutableOptions readOptions() throws IOException {
+            int flags = readVarint();
+            if ((flags & ~ALL_FLAGS) != 0) {
+                throw new IOException(String.format("malformed encoding: unknown option flags: %d", flags));
+            }
+            return ImmutableOptions.of((flags & WITHERS_FLAG) != 0, (flags & BUILDER_FLAG) != 0);
+        }
+
+        private ImmutableMember readMember() throws IOException {
+            String name = readString();
+            MemberType type = readMemberType();
+            return ImmutableMember.of(name, type);
+        }
+
+        private MemberType readMemberType() throws IOException {
+            String nameFormat = readString();
+            int argCount = readLength();
+            List<ImportableType> args = new ArrayList<>(argCount);
+            for (int i = 0; i < argCount; i++) {
+                args.add(readImportableType());
+            }
+            return MemberType.of(nameFormat, args);
+        }
+
+        private ImportableType readImportableType() throws IOException {
+            int index = readStringIndex();
+            ImportableType type = decodedTypes[index];
+            if (type == null) {
+                type = importableTypes.of(strings[index]);
+                decodedTypes[index] = type;
+            }
+            return type;
+        }
+
+        private int readStringIndex() throws IOException {
+            int index = readVarint();
+            if (index >= strings.length) {
+                throw new IOException(String.format("malformed encoding: string index out of bounds: %d", index));
+            }
+            return index;
+        }
+
+        /** Reads a length or a count, checking that it does not exceed the remaining bytes. */
+        private int readLength() throws IOException {
+            int length = readVarint();
+            if (length > bytes.length - position) {
+                throw new IOException(String.format("malformed encoding: length out of bounds: %d", length));
+            }
+            return length;
+        }
+
+        private int readVarint() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (position == bytes.length) {
+                    throw new EOFException("malformed encoding: unexpected end");
+                }
+
+                byte b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0) {
+                        throw new IOException("malformed encoding: varint out of bounds");
+                    }
+                    return value;
+                }
+            }
+            throw new IOException("malformed encoding: varint too long");
+        }
+    }
+}
@@ -11,10 +11,20 @@ import org.example.processor.source.IsolatingSourceFileGenerator;
 import org.example.processor.source.SourceGenerator;
 import org.example.processor.type.ImportableType;
 
-/** Generates source files from {@link ImmutableImpl}'s. */
+/**
+ * Generates source files from {@link ImmutableImpl}'s.
+ *
+ * <p>A {@link SourceComponent} is created for each source file, with the import manager of that file as its namer.</p>
+ */
 @ProcessorScope
 public final class ImmutableGenerator extends IsolatingSourceFileGenerator<ImmutableImpl, TypeElement> {
 
+    private static final int BASE_SOURCE_LENGTH = 1024;
+    private static final int MEMBER_SOURCE_LENGTH = 360;
+    private static final int WITHER_SOURCE_LENGTH = 200;
+    private static final int BUILDER_SOURCE_LENGTH = 1024;
+    private static final int BUILDER_MEMBER_SOURCE_LENGTH = 300;
+
     @Inject
     ImmutableGenerator(Filer filer) {
         super(filer);
@@ -25,6 +35,19 @@ public final class ImmutableGenerator extends IsolatingSourceFileGenerator<Immut
         return impl.type().qualifiedName();
     }
 
+    @Override
+    protected int estimateSourceLength(ImmutableImpl impl) {
+        // Each member generates a field, a constructor argument, a field initializer, a method,
+        // a comparison in equals(), a term in hashCode(), two appends in toString(), and possibly a wither.
+        // With a builder, each member also generates a builder field, a setter, a reset, and a missing member check.
+        boolean hasBuilder = impl.options().hasBuilder();
+        int baseSourceLength = BASE_SOURCE_LENGTH + (hasBuilder ? BUILDER_SOURCE_LENGTH : 0);
+        int memberSourceLength = MEMBER_SOURCE_LENGTH
+                + (impl.options().withers() ? WITHER_SOURCE_LENGTH : 0)
+                + (hasBuilder ? BUILDER_MEMBER_SOURCE_LENGTH : 0);
+        return baseSourceLength + memberSourceLength * impl.members().size();
+    }
+
     @Override
     protected SourceGenerator<ImmutableImpl> createSourceGenerator(ImmutableImpl impl) {
         SourceComponent sourceComponent = SourceComponent.of(impl.importManager());
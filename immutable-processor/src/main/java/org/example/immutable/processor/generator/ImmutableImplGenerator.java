@@ -1,13 +1,29 @@
 package org.example.immutable.processor.generator;
 
-import java.io.PrintWriter;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.example.immutable.processor.model.ImmutableImpl;
 import org.example.immutable.processor.model.ImmutableMember;
 import org.example.immutable.processor.model.ImmutableType;
+import org.example.immutable.processor.model.MemberType;
 import org.example.processor.imports.ImportManager;
 import org.example.processor.source.SourceGenerator;
+import org.example.processor.source.SourceWriter;
+import org.example.processor.type.ImportableType;
 
 /** Generates source code from {@link ImmutableImpl}'s. */
 final class ImmutableImplGenerator {
@@ -21,6 +37,11 @@ final class ImmutableImplGenerator {
         private final SourceGenerator<ImmutableMember> fieldGenerator;
         private final SourceGenerator<ImmutableImpl> constructorGenerator;
         private final SourceGenerator<ImmutableMember> methodGenerator;
+        private final SourceGenerator<ImmutableImpl> withersGenerator;
+        private final SourceGenerator<ImmutableImpl> equalsGenerator;
+        private final SourceGenerator<ImmutableImpl> hashCodeGenerator;
+        private final SourceGenerator<ImmutableImpl> toStringGenerator;
+        private final SourceGenerator<ImmutableImpl> builderGenerator;
 
         @Inject
         Source(
@@ -28,20 +49,30 @@ final class ImmutableImplGenerator {
                 SourceGenerator<ImmutableType> typeDeclarationGenerator,
                 @Named("field") SourceGenerator<ImmutableMember> fieldGenerator,
                 @Named("constructor") SourceGenerator<ImmutableImpl> constructorGenerator,
-                @Named("method") SourceGenerator<ImmutableMember> methodGenerator) {
+                @Named("method") SourceGenerator<ImmutableMember> methodGenerator,
+                @Named("withers") SourceGenerator<ImmutableImpl> withersGenerator,
+                @Named("equals") SourceGenerator<ImmutableImpl> equalsGenerator,
+                @Named("hashCode") SourceGenerator<ImmutableImpl> hashCodeGenerator,
+                @Named("toString") SourceGenerator<ImmutableImpl> toStringGenerator,
+                @Named("builder") SourceGenerator<ImmutableImpl> builderGenerator) {
             this.packageAndImportsGenerator = packageAndImportsGenerator;
             this.typeDeclarationGenerator = typeDeclarationGenerator;
             this.fieldGenerator = fieldGenerator;
             this.constructorGenerator = constructorGenerator;
             this.methodGenerator = methodGenerator;
+            this.withersGenerator = withersGenerator;
+            this.equalsGenerator = equalsGenerator;
+            this.hashCodeGenerator = hashCodeGenerator;
+            this.toStringGenerator = toStringGenerator;
+            this.builderGenerator = builderGenerator;
         }
 
         @Override
-        public void generateSource(PrintWriter writer, ImmutableImpl impl) {
+        public void generateSource(SourceWriter writer, ImmutableImpl impl) {
             packageAndImportsGenerator.generateSource(writer, impl.importManager());
             typeDeclarationGenerator.generateSource(writer, impl.type());
             if (impl.members().isEmpty()) {
-                writer.println(" {}");
+                generateEmptyBody(writer, impl);
                 return;
             }
 
@@ -50,12 +81,37 @@ final class ImmutableImplGenerator {
             for (ImmutableMember member : impl.members()) {
                 fieldGenerator.generateSource(writer, member);
             }
+            writer.println("    private int hashCode$;");
             writer.println();
             constructorGenerator.generateSource(writer, impl);
             for (ImmutableMember member : impl.members()) {
                 writer.println();
                 methodGenerator.generateSource(writer, member);
             }
+            if (impl.options().withers()) {
+                withersGenerator.generateSource(writer, impl);
+            }
+            writer.println();
+            equalsGenerator.generateSource(writer, impl);
+            writer.println();
+            hashCodeGenerator.generateSource(writer, impl);
+            writer.println();
+            toStringGenerator.generateSource(writer, impl);
+            if (impl.options().hasBuilder()) {
+                builderGenerator.generateSource(writer, impl);
+            }
+            writer.println("}");
+        }
+
+        /** Generates the body of an implementation without members, which only has a builder if one is requested. */
+        private void generateEmptyBody(SourceWriter writer, ImmutableImpl impl) {
+            if (!impl.options().hasBuilder()) {
+                writer.println(" {}");
+                return;
+            }
+
+            writer.println(" {");
+            builderGenerator.generateSource(writer, impl);
             writer.println("}");
         }
     }
@@ -76,8 +132,8 @@ final class ImmutableImplGenerator {
         }
 
         @Override
-        public void generateSource(PrintWriter writer, ImmutableImpl impl) {
-            writer.format("    %s(", impl.type().simpleName());
+        public void generateSource(SourceWriter writer, ImmutableImpl impl) {
+            writer.print("    ").print(impl.type().simpleName()).print('(');
             if (impl.members().isEmpty()) {
                 writer.println(") {}");
                 return;
@@ -97,5 +153,562 @@ final class ImmutableImplGenerator {
         }
     }
 
+    /**
+     * Generates source code for a {@code with[Member]()} method for each member from the {@link ImmutableImpl}.
+     *
+     * <p>Each method returns {@code this} if the new value is identical to the current value;
+     * otherwise, it invokes the constructor once. {@code float} and {@code double} values are compared bitwise,
+     * and all other values are compared via {@code ==}.</p>
+     */
+    @SourceScope
+    static final class Withers implements SourceGenerator<ImmutableImpl> {
+
+        private final SourceGenerator<MemberType> typeGenerator;
+        private final SourceGenerator<ImportableType> typeNamer;
+
+        @Inject
+        Withers(SourceGenerator<MemberType> typeGenerator, SourceGenerator<ImportableType> typeNamer) {
+            this.typeGenerator = typeGenerator;
+            this.typeNamer = typeNamer;
+        }
+
+        @Override
+        public void generateSource(SourceWriter writer, ImmutableImpl impl) {
+            for (ImmutableMember member : impl.members()) {
+                writer.println();
+                generateWither(writer, impl, member);
+            }
+        }
+
+        /** Generates the {@code with[Member]()} method for a single member. */
+        private void generateWither(SourceWriter writer, ImmutableImpl impl, ImmutableMember member) {
+            String name = member.name();
+            writer.print("    public ");
+            typeNamer.generateSource(writer, impl.type().implType().rawType());
+            generateTypeVars(writer, impl.type());
+            writer.print(" with").print(capitalize(name)).print('(');
+            typeGenerator.generateSource(writer, member.type());
+            writer.print(' ').print(name).println(") {");
+            writer.print("        if (");
+            generateIdentical(writer, member);
+            writer.println(") {");
+            writer.println("            return this;");
+            writer.println("        }");
+            writer.println();
+            writer.print("        return new ");
+            typeNamer.generateSource(writer, impl.type().implType().rawType());
+            if (!impl.type().typeVars().isEmpty()) {
+                writer.print("<>");
+            }
+            writer.print('(');
+            for (int i = 0; i < impl.members().size(); i++) {
+                ImmutableMember constructorMember = impl.members().get(i);
+                writer.print((i == 0) ? "" : ", ");
+                writer.print(constructorMember.name().equals(name) ? "" : "this.")
+                        .print(constructorMember.name());
+            }
+            writer.println(");");
+            writer.println("    }");
+        }
+
+        /** Generates the condition that the new value is identical to the current value. */
+        private void generateIdentical(SourceWriter writer, ImmutableMember member) {
+            String name = member.name();
+            Optional<String> maybeRawBitsMethodName = getRawBitsMethodName(member.type());
+            if (maybeRawBitsMethodName.isEmpty()) {
+                writer.print("this.").print(name).print(" == ").print(name);
+                return;
+            }
+
+            String rawBitsMethodName = maybeRawBitsMethodName.get();
+            typeNamer.generateSource(writer, member.type().helperType());
+            writer.print('.')
+                    .print(rawBitsMethodName)
+                    .print("(this.")
+                    .print(name)
+                    .print(") == ");
+            typeNamer.generateSource(writer, member.type().helperType());
+            writer.print('.').print(rawBitsMethodName).print('(').print(name).print(')');
+        }
+
+        /** Gets the name of the method that converts a floating-point value to its raw bits, if applicable. */
+        private static Optional<String> getRawBitsMethodName(MemberType type) {
+            return switch (type.nameFormat()) {
+                case "float" -> Optional.of("floatToRawIntBits");
+                case "double" -> Optional.of("doubleToRawLongBits");
+                default -> Optional.empty();
+            };
+        }
+
+        /** Capitalizes the first character of a member name. */
+        private static String capitalize(String name) {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+
+    /**
+     * Generates source code for {@code equals()} from the {@link ImmutableImpl}.
+     *
+     * <p>After the identity and type checks, the cached hash codes are compared if both have been computed.
+     * Members are then compared from the cheapest comparison to the most expensive comparison:
+     * primitives, other types, well-known collection types, and finally arrays.</p>
+     */
+    @SourceScope
+    static final class Equals implements SourceGenerator<ImmutableImpl> {
+
+        private static final ImportableType OVERRIDE = ImportableType.ofClass(Override.class);
+        private static final ImportableType OBJECT = ImportableType.ofClass(Object.class);
+        private static final Set<ImportableType> COLLECTION_TYPES = Stream.of(
+                        Collection.class,
+                        List.class,
+                        Set.class,
+                        SortedSet.class,
+                        NavigableSet.class,
+                        Queue.class,
+                        Deque.class,
+                        Map.class,
+                        SortedMap.class,
+                        NavigableMap.class)
+                .map(ImportableType::ofClass)
+                .collect(Collectors.toUnmodifiableSet());
+
+        private final SourceGenerator<ImmutableMember> equalsValueGenerator;
+        private final SourceGenerator<ImportableType> typeNamer;
+
+        @Inject
+        Equals(
+                @Named("equalsValue") SourceGenerator<ImmutableMember> equalsValueGenerator,
+                SourceGenerator<ImportableType> typeNamer) {
+            this.equalsValueGenerator = equalsValueGenerator;
+            this.typeNamer = typeNamer;
+        }
+
+        @Override
+        public void generateSource(SourceWriter writer, ImmutableImpl impl) {
+            writer.print("    @");
+            typeNamer.generateSource(writer, OVERRIDE);
+            writer.println();
+            writer.print("    public boolean equals(");
+            typeNamer.generateSource(writer, OBJECT);
+            writer.println(" obj) {");
+            writer.println("        if (this == obj) {");
+            writer.println("            return true;");
+            writer.println("        }");
+            writer.println();
+            writer.println("        if ((obj == null) || (obj.getClass() != getClass())) {");
+            writer.println("            return false;");
+            writer.println("        }");
+            writer.println();
+            writer.print("        ");
+            generateWildcardType(writer, impl.type());
+            writer.print(" other = (");
+            generateWildcardType(writer, impl.type());
+            writer.println(") obj;");
+            writer.println(
+                    "        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {");
+            writer.println("            return false;");
+            writer.println("        }");
+            writer.println();
+            List<ImmutableMember> members = impl.members().stream()
+                    .sorted(Comparator.comparingInt(member -> getComparisonCost(member.type())))
+                    .toList();
+            writer.print("        return ");
+            equalsValueGenerator.generateSource(writer, members.get(0));
+            for (ImmutableMember member : members.subList(1, members.size())) {
+                writer.println();
+                writer.print("                && ");
+                equalsValueGenerator.generateSource(writer, member);
+            }
+            writer.println(";");
+            writer.println("    }");
+        }
+
+        /** Generates the implementation type, with a wildcard for each type parameter. */
+        private void generateWildcardType(SourceWriter writer, ImmutableType type) {
+            typeNamer.generateSource(writer, type.implType().rawType());
+            List<String> typeVars = type.typeVars();
+            if (typeVars.isEmpty()) {
+                return;
+            }
+
+            writer.print("<?");
+            for (int i = 1; i < typeVars.size(); i++) {
+                writer.print(", ?");
+            }
+            writer.print('>');
+        }
+
+        /** Gets the relative cost of comparing values of a type; the sort is stable for members with the same cost. */
+        private static int getComparisonCost(MemberType type) {
+            if (type.isPrimitive()) {
+                return 0;
+            }
+
+            if (type.isArray()) {
+                return 3;
+            }
+
+            boolean isCollection = type.nameFormat().startsWith("%s") && COLLECTION_TYPES.contains(type.rawType());
+            return isCollection ? 2 : 1;
+        }
+    }
+
+    /**
+     * Generates source code for {@code hashCode()} from the {@link ImmutableImpl}.
+     *
+     * <p>The hash code is computed once and cached in a field. As with {@link String#hashCode()},
+     * the cache is racy but safe, since every thread computes the same hash code from the same final fields.</p>
+     */
+    @SourceScope
+    static final class HashCode implements SourceGenerator<ImmutableImpl> {
+
+        private static final ImportableType OVERRIDE = ImportableType.ofClass(Override.class);
+
+        private final SourceGenerator<ImmutableMember> hashCodeValueGenerator;
+        private final SourceGenerator<ImportableType> typeNamer;
+
+        @Inject
+        HashCode(
+                @Named("hashCodeValue") SourceGenerator<ImmutableMember> hashCodeValueGenerator,
+                SourceGenerator<ImportableType> typeNamer) {
+            this.hashCodeValueGenerator = hashCodeValueGenerator;
+            this.typeNamer = typeNamer;
+        }
+
+        @Override
+        public void generateSource(SourceWriter writer, ImmutableImpl impl) {
+            writer.print("    @");
+            typeNamer.generateSource(writer, OVERRIDE);
+            writer.println();
+            writer.println("    public int hashCode() {");
+            writer.println("        int hashCode = hashCode$;");
+            writer.println("        if (hashCode == 0) {");
+            writer.print("            hashCode = ");
+            hashCodeValueGenerator.generateSource(writer, impl.members().get(0));
+            writer.println(";");
+            for (ImmutableMember member :
+                    impl.members().subList(1, impl.members().size())) {
+                writer.print("            hashCode = 31 * hashCode + ");
+                hashCodeValueGenerator.generateSource(writer, member);
+                writer.println(";");
+            }
+            writer.println("            hashCode$ = hashCode;");
+            writer.println("        }");
+            writer.println("        return hashCode;");
+            writer.println("    }");
+        }
+    }
+
+    /**
+     * Generates source code for {@code toString()} from the {@link ImmutableImpl}.
+     *
+     * <p>The members are appended to a {@link StringBuilder}, whose capacity is estimated when the source is generated
+     * from the lengths of the literals and the typical length of each member's value.</p>
+     */
+    @SourceScope
+    static final class ToString implements SourceGenerator<ImmutableImpl> {
+
+        private static final ImportableType OVERRIDE = ImportableType.ofClass(Override.class);
+        private static final ImportableType STRING = ImportableType.ofClass(String.class);
+        private static final ImportableType STRING_BUILDER = ImportableType.ofClass(StringBuilder.class);
+        private static final int REFERENCE_LENGTH = 16;
+        private static final int ARRAY_LENGTH = 32;
+
+        private final SourceGenerator<ImmutableMember> toStringValueGenerator;
+        private final SourceGenerator<ImportableType> typeNamer;
+
+        @Inject
+        ToString(
+                @Named("toStringValue") SourceGenerator<ImmutableMember> toStringValueGenerator,
+                SourceGenerator<ImportableType> typeNamer) {
+            this.toStringValueGenerator = toStringValueGenerator;
+            this.typeNamer = typeNamer;
+        }
+
+        @Override
+        public void generateSource(SourceWriter writer, ImmutableImpl impl) {
+            String interfaceName = impl.type().interfaceType().rawType().simpleName();
+            List<ImmutableMember> members = impl.members();
+            writer.print("    @");
+            typeNamer.generateSource(writer, OVERRIDE);
+            writer.println();
+            writer.print("    public ");
+            typeNamer.generateSource(writer, STRING);
+            writer.println(" toString() {");
+            writer.print("        return new ");
+            typeNamer.generateSource(writer, STRING_BUILDER);
+            writer.print('(')
+                    .print(Integer.toString(estimateLength(interfaceName, members)))
+                    .println(")");
+            for (int i = 0; i < members.size(); i++) {
+                ImmutableMember member = members.get(i);
+                writer.print("                .append(\"");
+                writer.print((i == 0) ? interfaceName + "{" : ", ")
+                        .print(member.name())
+                        .println("=\")");
+                writer.print("                .append(");
+                toStringValueGenerator.generateSource(writer, member);
+                writer.println(")");
+            }
+            writer.println("                .append('}')");
+            writer.println("                .toString();");
+            writer.println("    }");
+        }
+
+        /** Estimates the length of the {@link String}. */
+        private static int estimateLength(String interfaceName, List<ImmutableMember> members) {
+            // "{" and "}", plus ", " between members.
+            int length = interfaceName.length() + 2 + 2 * (members.size() - 1);
+            for (ImmutableMember member : members) {
+                length += member.name().length() + 1 + estimateValueLength(member.type());
+            }
+            return length;
+        }
+
+        /** Estimates the length of a value, using the maximum length for most primitive types. */
+        private static int estimateValueLength(MemberType type) {
+            return switch (type.nameFormat()) {
+                case "boolean" -> 5;
+                case "byte" -> 4;
+                case "short" -> 6;
+                case "char" -> 1;
+                case "int" -> 11;
+                case "long" -> 20;
+                case "float" -> 15;
+                case "double" -> 24;
+                default -> type.isArray() ? ARRAY_LENGTH : REFERENCE_LENGTH;
+            };
+        }
+    }
+
+    /**
+     * Generates source code for a nested {@code Builder} class from the {@link ImmutableImpl}.
+     *
+     * <p>The builder stores each value in a field of the member's type, so primitive values are not boxed.
+     * Each member that has been set is tracked by a bit in a {@code long} word, so {@code build()} checks
+     * that all members have been set with one comparison per 64 members. {@code clear()} resets the builder,
+     * so that a single builder (e.g., one per thread) can be reused to create many instances.</p>
+     */
+    @SourceScope
+    static final class BuilderClass implements SourceGenerator<ImmutableImpl> {
+
+        private static final ImportableType ILLEGAL_STATE_EXCEPTION =
+                ImportableType.ofClass(IllegalStateException.class);
+        private static final ImportableType STRING = ImportableType.ofClass(String.class);
+        private static final ImportableType STRING_BUILDER = ImportableType.ofClass(StringBuilder.class);
+
+        private final SourceGenerator<MemberType> typeGenerator;
+        private final SourceGenerator<ImportableType> typeNamer;
+
+        @Inject
+        BuilderClass(SourceGenerator<MemberType> typeGenerator, SourceGenerator<ImportableType> typeNamer) {
+            this.typeGenerator = typeGenerator;
+            this.typeNamer = typeNamer;
+        }
+
+        @Override
+        public void generateSource(SourceWriter writer, ImmutableImpl impl) {
+            List<ImmutableMember> members = impl.members();
+            writer.println();
+            generateFactory(writer, impl.type());
+            writer.println();
+            writer.print("    static final class ");
+            typeGenerator.generateSource(writer, getBuilderDeclaration(impl.type()));
+            writer.println(" {");
+            if (!members.isEmpty()) {
+                writer.println();
+            }
+            for (ImmutableMember member : members) {
+                writer.print("        private ");
+                typeGenerator.generateSource(writer, member.type());
+                writer.print(' ').print(member.name()).println(";");
+            }
+            for (int word = 0; word < getWordCount(members); word++) {
+                writer.print("        private long ")
+                        .print(getSetBitsName(word))
+                        .println(";");
+            }
+            for (int i = 0; i < members.size(); i++) {
+                writer.println();
+                generateSetter(writer, impl.type(), members.get(i), i);
+            }
+            writer.println();
+            generateBuild(writer, impl);
+            writer.println();
+            generateClear(writer, impl);
+            if (!members.isEmpty()) {
+                writer.println();
+                generateMissingMembersMessage(writer, members);
+            }
+            writer.println("    }");
+        }
+
+        /** Generates the static {@code builder()} method. */
+        private void generateFactory(SourceWriter writer, ImmutableType type) {
+            writer.print("    static ");
+            MemberType typeParams = getTypeParams(type);
+            if (!type.typeVars().isEmpty()) {
+                typeGenerator.generateSource(writer, typeParams);
+                writer.print(' ');
+            }
+            writer.print("Builder");
+            generateTypeVars(writer, type);
+            writer.println(" builder() {");
+            writer.print("        return new Builder")
+                    .print(type.typeVars().isEmpty() ? "" : "<>")
+                    .println("();");
+            writer.println("    }");
+        }
+
+        /** Generates the setter for a member, which also marks the member as set. */
+        private void generateSetter(SourceWriter writer, ImmutableType type, ImmutableMember member, int index) {
+            String name = member.name();
+            writer.print("        public Builder");
+            generateTypeVars(writer, type);
+            writer.print(' ').print(name).print('(');
+            typeGenerator.generateSource(writer, member.type());
+            writer.print(' ').print(name).println(") {");
+            writer.print("            this.")
+                    .print(name)
+                    .print(" = ")
+                    .print(name)
+                    .println(";");
+            writer.print("            ").print(getSetBitsName(index / 64)).print(" |= ");
+            writer.print(toLongLiteral(1L << (index % 64))).println(";");
+            writer.println("            return this;");
+            writer.println("        }");
+        }
+
+        /** Generates {@code build()}, which checks that all members have been set. */
+        private void generateBuild(SourceWriter writer, ImmutableImpl impl) {
+            List<ImmutableMember> members = impl.members();
+            writer.print("        public ");
+            typeNamer.generateSource(writer, impl.type().implType().rawType());
+            generateTypeVars(writer, impl.type());
+            writer.println(" build() {");
+            if (!members.isEmpty()) {
+                generateAllSetCheck(writer, members);
+            }
+            writer.print("            return new ");
+            typeNamer.generateSource(writer, impl.type().implType().rawType());
+            writer.print(impl.type().typeVars().isEmpty() ? "" : "<>").print('(');
+            for (int i = 0; i < members.size(); i++) {
+                writer.print((i == 0) ? "" : ", ")
+                        .print("this.")
+                        .print(members.get(i).name());
+            }
+            writer.println(");");
+            writer.println("        }");
+        }
+
+        /** Generates the check in {@code build()} that all members have been set. */
+        private void generateAllSetCheck(SourceWriter writer, List<ImmutableMember> members) {
+            writer.print("            if (");
+            int wordCount = getWordCount(members);
+            for (int word = 0; word < wordCount; word++) {
+                writer.print((word == 0) ? "" : " || ");
+                writer.print((wordCount == 1) ? "" : "(");
+                writer.print(getSetBitsName(word)).print(" != ").print(toLongLiteral(getAllSetBits(members, word)));
+                writer.print((wordCount == 1) ? "" : ")");
+            }
+            writer.println(") {");
+            writer.print("                throw new ");
+            typeNamer.generateSource(writer, ILLEGAL_STATE_EXCEPTION);
+            writer.println("(getMissingMembersMessage());");
+            writer.println("            }");
+            writer.println();
+        }
+
+        /** Generates {@code clear()}, which resets all values and marks all members as unset. */
+        private void generateClear(SourceWriter writer, ImmutableImpl impl) {
+            List<ImmutableMember> members = impl.members();
+            writer.print("        public Builder");
+            generateTypeVars(writer, impl.type());
+            writer.println(" clear() {");
+            for (ImmutableMember member : members) {
+                writer.print("            this.").print(member.name()).print(" = ");
+                writer.print(getDefaultValue(member.type())).println(";");
+            }
+            for (int word = 0; word < getWordCount(members); word++) {
+                writer.print("            ").print(getSetBitsName(word)).println(" = 0L;");
+            }
+            writer.println("            return this;");
+            writer.println("        }");
+        }
+
+        /** Generates the method that creates the error message, which lists the members that have not been set. */
+        private void generateMissingMembersMessage(SourceWriter writer, List<ImmutableMember> members) {
+            writer.print("        private ");
+            typeNamer.generateSource(writer, STRING);
+            writer.println(" getMissingMembersMessage() {");
+            writer.print("            ");
+            typeNamer.generateSource(writer, STRING_BUILDER);
+            writer.print(" message = new ");
+            typeNamer.generateSource(writer, STRING_BUILDER);
+            writer.println("(\"members not set:\");");
+            for (int i = 0; i < members.size(); i++) {
+                writer.print("            if ((").print(getSetBitsName(i / 64)).print(" & ");
+                writer.print(toLongLiteral(1L << (i % 64))).println(") == 0L) {");
+                writer.print("                message.append(\" ")
+                        .print(members.get(i).name())
+                        .println("\");");
+                writer.println("            }");
+            }
+            writer.println("            return message.toString();");
+            writer.println("        }");
+        }
+
+        /** Gets the declaration of the builder class, including any bounded type parameters. */
+        private static MemberType getBuilderDeclaration(ImmutableType type) {
+            MemberType typeParams = getTypeParams(type);
+            return MemberType.of("Builder" + typeParams.nameFormat(), typeParams.args());
+        }
+
+        /** Gets the type parameters of the implementation type (e.g., {@code <T extends Comparable<T>>}). */
+        private static MemberType getTypeParams(ImmutableType type) {
+            MemberType implType = type.implType();
+            List<ImportableType> args = implType.args();
+            return MemberType.of(implType.nameFormat().substring(2), args.subList(1, args.size()));
+        }
+
+        /** Gets the number of {@code long} words needed to track which members have been set. */
+        private static int getWordCount(List<ImmutableMember> members) {
+            return (members.size() + 63) / 64;
+        }
+
+        /** Gets the value of a word when all the members that it tracks have been set. */
+        private static long getAllSetBits(List<ImmutableMember> members, int word) {
+            int bitCount = Math.min(members.size() - 64 * word, 64);
+            return (bitCount == 64) ? -1L : (1L << bitCount) - 1;
+        }
+
+        private static String getSetBitsName(int word) {
+            return "setBits$" + word;
+        }
+
+        private static String toLongLiteral(long value) {
+            return "0x" + Long.toHexString(value) + "L";
+        }
+
+        /** Gets the default value of a field, which is used to reset the field. */
+        private static String getDefaultValue(MemberType type) {
+            if (!type.isPrimitive()) {
+                return "null";
+            }
+
+            return type.nameFormat().equals("boolean") ? "false" : "0";
+        }
+    }
+
+    /** Generates the type variables of the implementation type (e.g., {@code <T, U>}), if there are any. */
+    private static void generateTypeVars(SourceWriter writer, ImmutableType type) {
+        List<String> typeVars = type.typeVars();
+        if (typeVars.isEmpty()) {
+            return;
+        }
+
+        writer.print('<').print(String.join(", ", typeVars)).print('>');
+    }
+
     private ImmutableImplGenerator() {}
 }
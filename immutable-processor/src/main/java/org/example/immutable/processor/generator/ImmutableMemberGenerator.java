@@ -1,10 +1,10 @@
 package org.example.immutable.processor.generator;
 
-import java.io.PrintWriter;
 import javax.inject.Inject;
 import org.example.immutable.processor.model.ImmutableMember;
 import org.example.immutable.processor.model.MemberType;
 import org.example.processor.source.SourceGenerator;
+import org.example.processor.source.SourceWriter;
 import org.example.processor.type.ImportableType;
 
 /** Generates source code from {@link ImmutableMember}'s. */
@@ -22,7 +22,7 @@ final class ImmutableMemberGenerator {
         }
 
         @Override
-        public void generateSource(PrintWriter writer, ImmutableMember member) {
+        public void generateSource(SourceWriter writer, ImmutableMember member) {
             writer.print("    private final ");
             typedNameGenerator.generateSource(writer, member);
             writer.println(";");
@@ -41,7 +41,7 @@ final class ImmutableMemberGenerator {
         }
 
         @Override
-        public void generateSource(PrintWriter writer, ImmutableMember member) {
+        public void generateSource(SourceWriter writer, ImmutableMember member) {
             typedNameGenerator.generateSource(writer, member);
         }
     }
@@ -54,8 +54,12 @@ final class ImmutableMemberGenerator {
         FieldInitializer() {}
 
         @Override
-        public void generateSource(PrintWriter writer, ImmutableMember member) {
-            writer.format("        this.%1$s = %1$s;", member.name()).println();
+        public void generateSource(SourceWriter writer, ImmutableMember member) {
+            writer.print("        this.")
+                    .print(member.name())
+                    .print(" = ")
+                    .print(member.name())
+                    .println(";");
         }
     }
 
@@ -75,18 +79,125 @@ final class ImmutableMemberGenerator {
         }
 
         @Override
-        public void generateSource(PrintWriter writer, ImmutableMember member) {
+        public void generateSource(SourceWriter writer, ImmutableMember member) {
             writer.print("    @");
             typeNamer.generateSource(writer, OVERRIDE);
             writer.println();
             writer.print("    public ");
             typedNameGenerator.generateSource(writer, member);
             writer.println("() {");
-            writer.format("        return %s;", member.name()).println();
+            writer.print("        return ").print(member.name()).println(";");
             writer.println("    }");
         }
     }
 
+    /**
+     * Generates source code for the hash code of a member's value from the {@link ImmutableMember}.
+     *
+     * <p>Primitives are hashed via their wrapper type and arrays are hashed element-wise, so nothing is boxed.</p>
+     */
+    @SourceScope
+    static final class HashCodeValue implements SourceGenerator<ImmutableMember> {
+
+        private final SourceGenerator<ImportableType> typeNamer;
+
+        @Inject
+        HashCodeValue(SourceGenerator<ImportableType> typeNamer) {
+            this.typeNamer = typeNamer;
+        }
+
+        @Override
+        public void generateSource(SourceWriter writer, ImmutableMember member) {
+            MemberType type = member.type();
+            typeNamer.generateSource(writer, type.helperType());
+            writer.print(type.isNestedArray() ? ".deepHashCode(this." : ".hashCode(this.");
+            writer.print(member.name()).print(')');
+        }
+    }
+
+    /**
+     * Generates source code that compares a member's value with the value of another instance,
+     * from the {@link ImmutableMember}.
+     *
+     * <p>Floating-point values are compared via {@link Double#compare(double, double)}
+     * or {@link Float#compare(float, float)}, which is consistent with their hash codes;
+     * other primitives are compared via {@code ==}. Arrays are compared element-wise.</p>
+     */
+    @SourceScope
+    static final class EqualsValue implements SourceGenerator<ImmutableMember> {
+
+        private final SourceGenerator<ImportableType> typeNamer;
+
+        @Inject
+        EqualsValue(SourceGenerator<ImportableType> typeNamer) {
+            this.typeNamer = typeNamer;
+        }
+
+        @Override
+        public void generateSource(SourceWriter writer, ImmutableMember member) {
+            MemberType type = member.type();
+            String name = member.name();
+            if (!type.isPrimitive()) {
+                typeNamer.generateSource(writer, type.helperType());
+                writer.print(type.isNestedArray() ? ".deepEquals(this." : ".equals(this.");
+                writer.print(name).print(", other.").print(name).print(')');
+                return;
+            }
+
+            if (!isFloatingPoint(type)) {
+                writer.print("(this.")
+                        .print(name)
+                        .print(" == other.")
+                        .print(name)
+                        .print(')');
+                return;
+            }
+
+            writer.print('(');
+            typeNamer.generateSource(writer, type.helperType());
+            writer.print(".compare(this.")
+                    .print(name)
+                    .print(", other.")
+                    .print(name)
+                    .print(") == 0)");
+        }
+
+        private static boolean isFloatingPoint(MemberType type) {
+            return type.nameFormat().equals("float") || type.nameFormat().equals("double");
+        }
+    }
+
+    /**
+     * Generates source code for a member's value that can be appended to a {@link StringBuilder},
+     * from the {@link ImmutableMember}.
+     *
+     * <p>Primitives and other types are appended directly, so that primitives are not boxed.
+     * Arrays are converted to a {@link String} element-wise.</p>
+     */
+    @SourceScope
+    static final class ToStringValue implements SourceGenerator<ImmutableMember> {
+
+        private final SourceGenerator<ImportableType> typeNamer;
+
+        @Inject
+        ToStringValue(SourceGenerator<ImportableType> typeNamer) {
+            this.typeNamer = typeNamer;
+        }
+
+        @Override
+        public void generateSource(SourceWriter writer, ImmutableMember member) {
+            MemberType type = member.type();
+            if (!type.isArray()) {
+                writer.print("this.").print(member.name());
+                return;
+            }
+
+            typeNamer.generateSource(writer, type.helperType());
+            writer.print(type.isNestedArray() ? ".deepToString(this." : ".toString(this.");
+            writer.print(member.name()).print(')');
+        }
+    }
+
     /** Generates source the code for the name preceded by its type. */
     private static class TypedName implements SourceGenerator<ImmutableMember> {
 
@@ -97,9 +208,9 @@ final class ImmutableMemberGenerator {
         }
 
         @Override
-        public void generateSource(PrintWriter writer, ImmutableMember member) {
+        public void generateSource(SourceWriter writer, ImmutableMember member) {
             typeGenerator.generateSource(writer, member.type());
-            writer.format(" %s", member.name());
+            writer.print(' ').print(member.name());
         }
     }
 
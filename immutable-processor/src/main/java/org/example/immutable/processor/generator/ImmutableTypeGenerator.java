@@ -1,12 +1,12 @@
 package org.example.immutable.processor.generator;
 
-import java.io.PrintWriter;
 import javax.annotation.processing.Generated;
 import javax.inject.Inject;
 import org.example.immutable.processor.ImmutableProcessor;
 import org.example.immutable.processor.model.ImmutableType;
 import org.example.immutable.processor.model.MemberType;
 import org.example.processor.source.SourceGenerator;
+import org.example.processor.source.SourceWriter;
 import org.example.processor.type.ImportableType;
 
 /** Generates source code for a type declaration from the {@link ImmutableType}. */
@@ -26,10 +26,10 @@ final class ImmutableTypeGenerator implements SourceGenerator<ImmutableType> {
     }
 
     @Override
-    public void generateSource(PrintWriter writer, ImmutableType immutableType) {
+    public void generateSource(SourceWriter writer, ImmutableType immutableType) {
         writer.print("@");
         typeNamer.generateSource(writer, GENERATED);
-        writer.format("(\"%s\")", PROCESSOR_CANONICAL_NAME).println();
+        writer.print("(\"").print(PROCESSOR_CANONICAL_NAME).println("\")");
         writer.print("class ");
         typeGenerator.generateSource(writer, immutableType.implType().topLevelDeclaration());
         writer.print(" implements ");
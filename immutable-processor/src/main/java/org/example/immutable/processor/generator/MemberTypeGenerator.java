@@ -1,9 +1,10 @@
 package org.example.immutable.processor.generator;
 
-import java.io.PrintWriter;
+import java.util.List;
 import javax.inject.Inject;
 import org.example.immutable.processor.model.MemberType;
 import org.example.processor.source.SourceGenerator;
+import org.example.processor.source.SourceWriter;
 import org.example.processor.type.ImportableType;
 
 /** Generates source code for a type from the {@link MemberType}. */
@@ -18,9 +19,13 @@ final class MemberTypeGenerator implements SourceGenerator<MemberType> {
     }
 
     @Override
-    public void generateSource(PrintWriter writer, MemberType type) {
-        Object[] args = type.args().stream().map(typeNamer::toSource).toArray();
-        String name = String.format(type.nameFormat(), args);
-        writer.print(name);
+    public void generateSource(SourceWriter writer, MemberType type) {
+        List<String> nameSegments = type.nameSegments();
+        List<ImportableType> args = type.args();
+        writer.print(nameSegments.get(0));
+        for (int i = 0; i < args.size(); i++) {
+            typeNamer.generateSource(writer, args.get(i));
+            writer.print(nameSegments.get(i + 1));
+        }
     }
 }
@@ -55,6 +55,46 @@ interface SourceModule {
     @Named("method")
     SourceGenerator<ImmutableMember> bindMethodGenerator(ImmutableMemberGenerator.Method generator);
 
+    @Binds
+    @SourceScope
+    @Named("withers")
+    SourceGenerator<ImmutableImpl> bindWithersGenerator(ImmutableImplGenerator.Withers generator);
+
+    @Binds
+    @SourceScope
+    @Named("equals")
+    SourceGenerator<ImmutableImpl> bindEqualsGenerator(ImmutableImplGenerator.Equals generator);
+
+    @Binds
+    @SourceScope
+    @Named("equalsValue")
+    SourceGenerator<ImmutableMember> bindEqualsValueGenerator(ImmutableMemberGenerator.EqualsValue generator);
+
+    @Binds
+    @SourceScope
+    @Named("hashCode")
+    SourceGenerator<ImmutableImpl> bindHashCodeGenerator(ImmutableImplGenerator.HashCode generator);
+
+    @Binds
+    @SourceScope
+    @Named("hashCodeValue")
+    SourceGenerator<ImmutableMember> bindHashCodeValueGenerator(ImmutableMemberGenerator.HashCodeValue generator);
+
+    @Binds
+    @SourceScope
+    @Named("toString")
+    SourceGenerator<ImmutableImpl> bindToStringGenerator(ImmutableImplGenerator.ToString generator);
+
+    @Binds
+    @SourceScope
+    @Named("toStringValue")
+    SourceGenerator<ImmutableMember> bindToStringValueGenerator(ImmutableMemberGenerator.ToStringValue generator);
+
+    @Binds
+    @SourceScope
+    @Named("builder")
+    SourceGenerator<ImmutableImpl> bindBuilderGenerator(ImmutableImplGenerator.BuilderClass generator);
+
     @Binds
     @SourceScope
     SourceGenerator<MemberType> bindTypeGenerator(MemberTypeGenerator generator);
@@ -16,6 +16,9 @@ import org.immutables.value.Value;
  * Implementation of an immutable interface.
  *
  * <p>If an {@link ImmutableImpl} can be instantiated, then its source can be generated without errors.</p>
+ *
+ * <p>It does not reference any elements or types, so its source can be generated on any thread.
+ * The import manager is resolved lazily, so that it is created on the thread that generates the source.</p>
  */
 @Value.Immutable
 @JsonSerialize(as = ImmutableImmutableImpl.class)
@@ -23,7 +26,15 @@ import org.immutables.value.Value;
 public interface ImmutableImpl {
 
     static ImmutableImpl of(ImmutableType type, List<ImmutableMember> members) {
-        return ImmutableImmutableImpl.builder().type(type).members(members).build();
+        return of(type, members, ImmutableOptions.defaults());
+    }
+
+    static ImmutableImpl of(ImmutableType type, List<ImmutableMember> members, ImmutableOptions options) {
+        return ImmutableImmutableImpl.builder()
+                .type(type)
+                .members(members)
+                .options(options)
+                .build();
     }
 
     /** Gets the type of the implementing class. */
@@ -32,20 +43,35 @@ public interface ImmutableImpl {
     /** Gets the immutable members. */
     List<ImmutableMember> members();
 
+    /** Gets the options for the implementing class. */
+    ImmutableOptions options();
+
     /** Gets the type qualifier for all top-level types referenced in the implementation. */
-    @Value.Derived
+    @Value.Lazy
     @JsonIgnore
     default ImportManager importManager() {
         // Collect all the referenced types.
         Set<ImportableType> referencedTypes = new HashSet<>();
-        referencedTypes.addAll(Set.of(ImportableType.ofClass(Generated.class), ImportableType.ofClass(Override.class)));
+        referencedTypes.addAll(Set.of(
+                ImportableType.ofClass(Generated.class),
+                ImportableType.ofClass(Override.class),
+                ImportableType.ofClass(Object.class),
+                ImportableType.ofClass(String.class),
+                ImportableType.ofClass(StringBuilder.class)));
         referencedTypes.addAll(type().implType().args());
         referencedTypes.addAll(type().interfaceType().args());
         members().forEach(member -> referencedTypes.addAll(member.type().args()));
+        members().forEach(member -> referencedTypes.add(member.type().helperType()));
+        if (options().hasBuilder()) {
+            referencedTypes.add(ImportableType.ofClass(IllegalStateException.class));
+        }
 
         // Create the import manager.
         String packageName = type().implType().rawType().packageName();
-        Set<String> inScopeNames = Set.copyOf(type().typeVars());
+        Set<String> inScopeNames = new HashSet<>(type().typeVars());
+        if (options().hasBuilder()) {
+            inScopeNames.add("Builder");
+        }
         return TopLevelImportManager.of(packageName, referencedTypes, inScopeNames);
     }
 }
@@ -0,0 +1,31 @@
+package org.example.immutable.processor.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.example.immutable.Immutable;
+import org.immutables.value.Value;
+
+/** Options for an immutable implementation, which are specified via the attributes of {@link Immutable}. */
+@Value.Immutable
+@JsonSerialize(as = ImmutableImmutableOptions.class)
+@JsonDeserialize(as = ImmutableImmutableOptions.class)
+public interface ImmutableOptions {
+
+    /** Gets the default options. */
+    static ImmutableOptions defaults() {
+        return of(false, false);
+    }
+
+    static ImmutableOptions of(boolean withers, boolean hasBuilder) {
+        return ImmutableImmutableOptions.builder()
+                .withers(withers)
+                .hasBuilder(hasBuilder)
+                .build();
+    }
+
+    /** Determines if {@code with[Member]()} methods are generated. */
+    boolean withers();
+
+    /** Determines if a reusable builder is generated. */
+    boolean hasBuilder();
+}
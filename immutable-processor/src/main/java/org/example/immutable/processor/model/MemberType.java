@@ -4,7 +4,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.example.processor.type.ImportableType;
 import org.immutables.value.Value;
@@ -12,7 +14,9 @@ import org.immutables.value.Value;
 /**
  * Type for an immutable member (or for the declaration of the immutable type itself).
  *
- * <p>Its name is represented as a format string, with {@link ImportableType}'s as the arguments.</p>
+ * <p>Its name is represented as a format string, with {@link ImportableType}'s as the arguments.
+ * The format string is also split into literal segments, so that the name can be generated
+ * without parsing the format string each time.</p>
  */
 @Value.Immutable
 @JsonSerialize(as = ImmutableMemberType.class)
@@ -103,6 +107,28 @@ public interface MemberType {
     /** Gets the {@link ImportableType} arguments. */
     List<ImportableType> args();
 
+    /**
+     * Gets the literal segments of the format string, which are interleaved with the {@link ImportableType} arguments.
+     *
+     * <p>There is always one more segment than there are arguments; segments may be empty.</p>
+     */
+    @Value.Lazy
+    @JsonIgnore
+    default List<String> nameSegments() {
+        String nameFormat = nameFormat();
+        List<String> nameSegments = new ArrayList<>(args().size() + 1);
+        int beginIndex = 0;
+        int argIndex = nameFormat.indexOf("%s");
+        while (argIndex != -1) {
+            nameSegments.add(nameFormat.substring(beginIndex, argIndex));
+            beginIndex = argIndex + 2;
+            argIndex = nameFormat.indexOf("%s", beginIndex);
+        }
+
+        nameSegments.add(nameFormat.substring(beginIndex));
+        return List.copyOf(nameSegments);
+    }
+
     /** Gets the raw type for a declared type. */
     @Value.Lazy
     @JsonIgnore
@@ -110,6 +136,56 @@ public interface MemberType {
         return args().get(0);
     }
 
+    /** Determines if this is a primitive type. */
+    @Value.Lazy
+    @JsonIgnore
+    default boolean isPrimitive() {
+        return switch (nameFormat()) {
+            case "boolean", "byte", "short", "char", "int", "long", "float", "double" -> true;
+            default -> false;
+        };
+    }
+
+    /** Determines if this is an array type. */
+    @Value.Lazy
+    @JsonIgnore
+    default boolean isArray() {
+        return nameFormat().endsWith("[]");
+    }
+
+    /** Determines if this is an array type whose components are also arrays. */
+    @Value.Lazy
+    @JsonIgnore
+    default boolean isNestedArray() {
+        return nameFormat().endsWith("[][]");
+    }
+
+    /**
+     * Gets the type that provides static helper methods for values of this type, such as {@code hashCode()}.
+     *
+     * <p>It is the wrapper type for a primitive type, {@link Arrays} for an array type,
+     * or {@link Objects} for any other type.</p>
+     */
+    @Value.Lazy
+    @JsonIgnore
+    default ImportableType helperType() {
+        if (isArray()) {
+            return ImportableType.ofClass(Arrays.class);
+        }
+
+        return switch (nameFormat()) {
+            case "boolean" -> ImportableType.ofClass(Boolean.class);
+            case "byte" -> ImportableType.ofClass(Byte.class);
+            case "short" -> ImportableType.ofClass(Short.class);
+            case "char" -> ImportableType.ofClass(Character.class);
+            case "int" -> ImportableType.ofClass(Integer.class);
+            case "long" -> ImportableType.ofClass(Long.class);
+            case "float" -> ImportableType.ofClass(Float.class);
+            case "double" -> ImportableType.ofClass(Double.class);
+            default -> ImportableType.ofClass(Objects.class);
+        };
+    }
+
     /**
      * Adds type arguments to an outer type that is generic.
      *
@@ -1,37 +1,231 @@
 package org.example.immutable.processor.modeler;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 import org.example.processor.base.ProcessorScope;
 
-/** Navigates immutable types to extract the relevant elements. */
+/**
+ * Navigates immutable types to extract the relevant elements.
+ *
+ * <p>For interfaces, it walks the interface hierarchy directly instead of using {@link Elements#getAllMembers},
+ * which also materializes all the members of {@link Object}. Supertypes are ordered by their depth in the hierarchy
+ * and then in the order they were declared, and each type's methods are in declaration order.</p>
+ *
+ * <p>This order is deterministic, but it is not always the order of {@link Elements#getAllMembers}.
+ * javac orders unrelated supertypes of the same depth by the order in which their names were first read,
+ * which depends on the order of the source files; the members of such supertypes may now be ordered differently.</p>
+ *
+ * <p>Methods with the same signature are deduplicated, and the method that remains is in its own position.
+ * An overriding method replaces the method it overrides. If unrelated supertypes declare the same method,
+ * the method with the most specific return type is used.</p>
+ *
+ * <p>Abstract redeclarations of {@link Object#equals(Object)}, {@link Object#hashCode()},
+ * and {@link Object#toString()} are excluded, since those methods are always generated.</p>
+ *
+ * <p>The hierarchy of each interface is memoized, so that an interface that is extended by many types
+ * is only walked once per round. Elements may be recreated in later rounds, so the memoized hierarchies
+ * should be cleared at the end of each round via {@link #clear()}.</p>
+ */
 @ProcessorScope
 final class ElementNavigator {
 
     private static final String OBJECT_CANONICAL_NAME = Object.class.getCanonicalName();
 
     private final Elements elementUtils;
+    private final Types typeUtils;
+    private final Map<TypeElement, Hierarchy> hierarchies = new HashMap<>();
 
     @Inject
-    ElementNavigator(Elements elementUtils) {
+    ElementNavigator(Elements elementUtils, Types typeUtils) {
         this.elementUtils = elementUtils;
+        this.typeUtils = typeUtils;
     }
 
     /** Gets all methods that must be implemented. */
     public Stream<ExecutableElement> getMethodsToImplement(TypeElement typeElement) {
-        List<? extends Element> memberElements = elementUtils.getAllMembers(typeElement);
-        List<ExecutableElement> methodElements = ElementFilter.methodsIn(memberElements);
-        return methodElements.stream()
-                .filter(this::isNotBuiltInMethod)
+        return getMethods(typeElement).stream()
                 .filter(this::isInstanceMethod)
-                .filter(this::isNotDefaultMethod);
+                .filter(this::isNotDefaultMethod)
+                .filter(this::isNotGeneratedObjectMethod);
+    }
+
+    /** Clears the memoized hierarchies, since elements may be recreated in later rounds. */
+    public void clear() {
+        hierarchies.clear();
+    }
+
+    /** Gets all methods, excluding the methods of {@link Object}. */
+    private List<ExecutableElement> getMethods(TypeElement typeElement) {
+        if (!typeElement.getKind().isInterface()) {
+            // An error will be reported for the type, so it is not worth optimizing.
+            List<? extends Element> memberElements = elementUtils.getAllMembers(typeElement);
+            return ElementFilter.methodsIn(memberElements).stream()
+                    .filter(this::isNotBuiltInMethod)
+                    .toList();
+        }
+
+        Set<ExecutableElement> methodElements = new LinkedHashSet<>();
+        Map<String, List<ExecutableElement>> methodElementsByKey = new HashMap<>();
+        for (TypeElement supertypeElement : getHierarchy(typeElement).supertypes()) {
+            boolean isInherited = supertypeElement != typeElement;
+            for (ExecutableElement methodElement : ElementFilter.methodsIn(supertypeElement.getEnclosedElements())) {
+                if (isInherited && !isInheritable(methodElement)) {
+                    continue;
+                }
+
+                addMethod(methodElements, methodElementsByKey, methodElement, typeElement);
+            }
+        }
+        return List.copyOf(methodElements);
+    }
+
+    /**
+     * Adds a method, unless a method with the same signature was already added.
+     *
+     * <p>If the new method overrides a method that was already added, or if it has a more specific return type,
+     * the existing method is removed.
+     * Methods are only compared with other methods that have the same name and number of parameters.</p>
+     */
+    private void addMethod(
+            Set<ExecutableElement> methodElements,
+            Map<String, List<ExecutableElement>> methodElementsByKey,
+            ExecutableElement methodElement,
+            TypeElement typeElement) {
+        String key = methodElement.getSimpleName() + "/"
+                + methodElement.getParameters().size();
+        List<ExecutableElement> candidateMethodElements =
+                methodElementsByKey.computeIfAbsent(key, k -> new ArrayList<>());
+        for (int i = 0; i < candidateMethodElements.size(); ++i) {
+            ExecutableElement candidateMethodElement = candidateMethodElements.get(i);
+            if (elementUtils.overrides(methodElement, candidateMethodElement, typeElement)) {
+                methodElements.remove(candidateMethodElement);
+                methodElements.add(methodElement);
+                candidateMethodElements.set(i, methodElement);
+                return;
+            }
+
+            if (hasSameErasure(methodElement, candidateMethodElement)) {
+                if (hasMoreSpecificReturnType(methodElement, candidateMethodElement, typeElement)) {
+                    methodElements.remove(candidateMethodElement);
+                    methodElements.add(methodElement);
+                    candidateMethodElements.set(i, methodElement);
+                }
+                return;
+            }
+        }
+
+        methodElements.add(methodElement);
+        candidateMethodElements.add(methodElement);
+    }
+
+    /** Gets the hierarchy of an interface, walking the hierarchy only if it is not memoized. */
+    private Hierarchy getHierarchy(TypeElement typeElement) {
+        Hierarchy hierarchy = hierarchies.get(typeElement);
+        if (hierarchy != null) {
+            return hierarchy;
+        }
+
+        int rank = 1;
+        Set<TypeElement> supertypeElements = new LinkedHashSet<>();
+        for (TypeElement superinterfaceElement : getSuperinterfaces(typeElement)) {
+            Hierarchy superinterfaceHierarchy = getHierarchy(superinterfaceElement);
+            rank = Math.max(rank, superinterfaceHierarchy.rank() + 1);
+            supertypeElements.addAll(superinterfaceHierarchy.supertypes());
+        }
+        supertypeElements.add(typeElement);
+
+        // The sort is stable, so supertypes with the same rank remain in the order they were declared.
+        List<TypeElement> supertypes = supertypeElements.stream()
+                .sorted(Comparator.comparingInt(supertypeElement ->
+                        (supertypeElement == typeElement) ? Integer.MAX_VALUE : getRank(supertypeElement)))
+                .toList();
+        hierarchy = new Hierarchy(rank, supertypes);
+        hierarchies.put(typeElement, hierarchy);
+        return hierarchy;
+    }
+
+    /** Gets the rank of a memoized interface, i.e., its depth in the hierarchy. */
+    private int getRank(TypeElement typeElement) {
+        return hierarchies.get(typeElement).rank();
+    }
+
+    /** Gets the direct superinterfaces of an interface, skipping any that failed to compile. */
+    private List<TypeElement> getSuperinterfaces(TypeElement typeElement) {
+        List<TypeElement> superinterfaceElements = new ArrayList<>();
+        for (TypeMirror superinterface : typeElement.getInterfaces()) {
+            if (superinterface.getKind() == TypeKind.DECLARED) {
+                superinterfaceElements.add((TypeElement) ((DeclaredType) superinterface).asElement());
+            }
+        }
+        return superinterfaceElements;
+    }
+
+    /** Determines if two methods with the same name have the same erased parameter types. */
+    private boolean hasSameErasure(ExecutableElement methodElement1, ExecutableElement methodElement2) {
+        List<? extends VariableElement> paramElements1 = methodElement1.getParameters();
+        List<? extends VariableElement> paramElements2 = methodElement2.getParameters();
+        for (int i = 0; i < paramElements1.size(); ++i) {
+            TypeMirror paramType1 = typeUtils.erasure(paramElements1.get(i).asType());
+            TypeMirror paramType2 = typeUtils.erasure(paramElements2.get(i).asType());
+            if (!typeUtils.isSameType(paramType1, paramType2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Determines if the first method's return type is a proper subtype of the second method's return type. */
+    private boolean hasMoreSpecificReturnType(
+            ExecutableElement methodElement1, ExecutableElement methodElement2, TypeElement typeElement) {
+        TypeMirror returnType1 = getReturnType(methodElement1, typeElement);
+        TypeMirror returnType2 = getReturnType(methodElement2, typeElement);
+        return !typeUtils.isSameType(returnType1, returnType2) && typeUtils.isSubtype(returnType1, returnType2);
+    }
+
+    /** Gets the return type of a method when it is viewed as a member of the type. */
+    private TypeMirror getReturnType(ExecutableElement methodElement, TypeElement typeElement) {
+        DeclaredType declaredType = (DeclaredType) typeElement.asType();
+        ExecutableType methodType = (ExecutableType) typeUtils.asMemberOf(declaredType, methodElement);
+        return methodType.getReturnType();
+    }
+
+    /** Determines if a method does not redeclare a method of {@link Object} that is always generated. */
+    private boolean isNotGeneratedObjectMethod(ExecutableElement methodElement) {
+        List<? extends VariableElement> paramElements = methodElement.getParameters();
+        return switch (methodElement.getSimpleName().toString()) {
+            case "equals" -> (paramElements.size() != 1)
+                    || !isObjectType(paramElements.get(0).asType());
+            case "hashCode", "toString" -> !paramElements.isEmpty();
+            default -> true;
+        };
+    }
+
+    private boolean isObjectType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        return typeElement.getQualifiedName().contentEquals(OBJECT_CANONICAL_NAME);
     }
 
     private boolean isNotBuiltInMethod(ExecutableElement methodElement) {
@@ -39,6 +233,12 @@ final class ElementNavigator {
         return !typeElement.getQualifiedName().contentEquals(OBJECT_CANONICAL_NAME);
     }
 
+    /** Determines if an interface method is inherited by subtypes; private and static methods are not. */
+    private boolean isInheritable(ExecutableElement methodElement) {
+        Set<Modifier> modifiers = methodElement.getModifiers();
+        return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC);
+    }
+
     private boolean isInstanceMethod(ExecutableElement methodElement) {
         return !methodElement.getModifiers().contains(Modifier.STATIC);
     }
@@ -46,4 +246,12 @@ final class ElementNavigator {
     private boolean isNotDefaultMethod(ExecutableElement methodElement) {
         return !methodElement.getModifiers().contains(Modifier.DEFAULT);
     }
+
+    /**
+     * Memoized hierarchy of an interface.
+     *
+     * <p>The supertypes include the interface itself, and they are ordered in the same order as their members.</p>
+     */
+    @SuppressWarnings("UnusedVariable") // false positive for Error Prone
+    private record Hierarchy(int rank, List<TypeElement> supertypes) {}
 }
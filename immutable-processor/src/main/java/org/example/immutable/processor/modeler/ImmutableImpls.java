@@ -3,16 +3,30 @@ package org.example.immutable.processor.modeler;
 import java.util.List;
 import java.util.Optional;
 import javax.inject.Inject;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import org.example.immutable.Immutable;
 import org.example.immutable.processor.model.ImmutableImpl;
 import org.example.immutable.processor.model.ImmutableMember;
+import org.example.immutable.processor.model.ImmutableOptions;
 import org.example.immutable.processor.model.ImmutableType;
 import org.example.immutable.processor.model.MemberType;
 import org.example.processor.base.ProcessorScope;
 import org.example.processor.diagnostic.Diagnostics;
+import org.example.processor.stats.ProcessorStats;
 import org.example.processor.type.ImportableType;
 
-/** Creates {@link ImmutableImpl}'s from {@link TypeElement}'s. */
+/**
+ * Creates {@link ImmutableImpl}'s from {@link TypeElement}'s.
+ *
+ * <p>It records the {@code model.type}, {@code model.navigator}, and {@code model.members} phases
+ * via {@link ProcessorStats}.</p>
+ *
+ * <p>The modelers cache some information about elements, so {@link #clear()} should be called
+ * at the end of each round.</p>
+ */
 @ProcessorScope
 public final class ImmutableImpls {
 
@@ -22,32 +36,81 @@ public final class ImmutableImpls {
 
     private final ImmutableTypes typeFactory;
     private final ImmutableMembers memberFactory;
+    private final MemberTypes memberTypeFactory;
     private final ElementNavigator navigator;
     private final Diagnostics diagnostics;
+    private final ProcessorStats stats;
 
     @Inject
     ImmutableImpls(
             ImmutableTypes typeFactory,
             ImmutableMembers memberFactory,
+            MemberTypes memberTypeFactory,
             ElementNavigator navigator,
-            Diagnostics diagnostics) {
+            Diagnostics diagnostics,
+            ProcessorStats stats) {
         this.typeFactory = typeFactory;
         this.memberFactory = memberFactory;
+        this.memberTypeFactory = memberTypeFactory;
         this.navigator = navigator;
         this.diagnostics = diagnostics;
+        this.stats = stats;
     }
 
     /** Creates an {@link ImmutableImpl}, or empty if validation fails. */
     public Optional<ImmutableImpl> create(TypeElement typeElement) {
         try (Diagnostics.ErrorTracker errorTracker = diagnostics.trackErrors()) {
-            ImmutableType type = typeFactory.create(typeElement).orElse(ERROR_TYPE);
-            List<ImmutableMember> members = navigator
-                    .getMethodsToImplement(typeElement)
-                    .map(memberFactory::create)
-                    .flatMap(Optional::stream)
-                    .toList();
-            ImmutableImpl impl = ImmutableImpl.of(type, members);
+            Name typeName = typeElement.getQualifiedName();
+            ImmutableType type;
+            try (ProcessorStats.Span span = stats.start("model.type", typeName)) {
+                type = typeFactory.create(typeElement).orElse(ERROR_TYPE);
+            }
+            List<ExecutableElement> methods;
+            try (ProcessorStats.Span span = stats.start("model.navigator", typeName)) {
+                methods = navigator.getMethodsToImplement(typeElement).toList();
+            }
+            List<ImmutableMember> members;
+            try (ProcessorStats.Span span = stats.start("model.members", typeName)) {
+                members = methods.stream()
+                        .map(memberFactory::create)
+                        .flatMap(Optional::stream)
+                        .toList();
+            }
+            ImmutableOptions options = createOptions(typeElement);
+            if (options.hasBuilder()) {
+                methods.forEach(this::checkDoesNotClashWithBuilderFactory);
+            }
+            ImmutableImpl impl = ImmutableImpl.of(type, members, options);
             return errorTracker.checkNoErrors(impl);
         }
     }
+
+    /** Checks that a method does not clash with the static {@code builder()} method of the implementation. */
+    private boolean checkDoesNotClashWithBuilderFactory(ExecutableElement methodElement) {
+        return methodElement.getSimpleName().contentEquals("builder")
+                ? diagnostics.add(
+                        Diagnostic.Kind.ERROR,
+                        "method must not be named builder() if a builder is generated",
+                        methodElement)
+                : true;
+    }
+
+    /** Creates the {@link ImmutableOptions} from the attributes of {@link Immutable}. */
+    private ImmutableOptions createOptions(TypeElement typeElement) {
+        Immutable annotation = typeElement.getAnnotation(Immutable.class);
+        return (annotation != null)
+                ? ImmutableOptions.of(annotation.withers(), annotation.builder())
+                : ImmutableOptions.defaults();
+    }
+
+    /** Determines if a cached {@link ImmutableImpl} can be reused, without reporting any diagnostics. */
+    public boolean canReuse(ImmutableImpl impl) {
+        return typeFactory.canReuse(impl.type());
+    }
+
+    /** Clears the information that is cached about elements, since elements may be recreated in later rounds. */
+    public void clear() {
+        memberTypeFactory.clear();
+        navigator.clear();
+    }
 }
@@ -9,7 +9,6 @@ import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.TypeParameterElement;
 import javax.lang.model.type.TypeMirror;
-import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic;
 import org.example.immutable.Immutable;
 import org.example.immutable.processor.model.ImmutableType;
@@ -17,6 +16,9 @@ import org.example.immutable.processor.model.MemberType;
 import org.example.processor.base.ProcessorScope;
 import org.example.processor.diagnostic.Diagnostics;
 import org.example.processor.type.ImportableType;
+import org.example.processor.type.ImportableTypeResolver;
+import org.example.processor.type.ImportableTypes;
+import org.example.processor.type.TopLevelTypeResolver;
 
 /** Creates {@link ImmutableType}'s from {@link TypeElement}'s. */
 @ProcessorScope
@@ -25,14 +27,23 @@ final class ImmutableTypes {
     private static final String OBJECT_CANONICAL_NAME = Object.class.getCanonicalName();
 
     private final MemberTypes typeFactory;
+    private final ImportableTypes importableTypes;
+    private final ImportableTypeResolver typeResolver;
+    private final TopLevelTypeResolver topLevelTypeResolver;
     private final Diagnostics diagnostics;
-    private final Elements elementUtils;
 
     @Inject
-    ImmutableTypes(MemberTypes typeFactory, Diagnostics diagnostics, Elements elementUtils) {
+    ImmutableTypes(
+            MemberTypes typeFactory,
+            ImportableTypes importableTypes,
+            ImportableTypeResolver typeResolver,
+            TopLevelTypeResolver topLevelTypeResolver,
+            Diagnostics diagnostics) {
         this.typeFactory = typeFactory;
+        this.importableTypes = importableTypes;
+        this.typeResolver = typeResolver;
+        this.topLevelTypeResolver = topLevelTypeResolver;
         this.diagnostics = diagnostics;
-        this.elementUtils = elementUtils;
     }
 
     /** Creates an {@link ImmutableType}, or empty if validation fails. */
@@ -56,12 +67,32 @@ final class ImmutableTypes {
         }
     }
 
+    /**
+     * Determines if a cached {@link ImmutableType} can be reused, without reporting any diagnostics.
+     *
+     * <p>The cache fingerprints the interface itself, so only the checks that depend on other types are run again.
+     * If a check fails, the {@link ImmutableType} will be created again, which will report the error.</p>
+     */
+    public boolean canReuse(ImmutableType type) {
+        ImportableType rawInterfaceType = type.interfaceType().rawType();
+        if (!rawInterfaceType.isTopLevelType()) {
+            String flatInterfaceClassName = rawInterfaceType.className().replace('.', '_');
+            ImportableType flatInterfaceType =
+                    importableTypes.ofPackageAndClass(rawInterfaceType.packageName(), flatInterfaceClassName);
+            if (existsAsImmutableType(flatInterfaceType)) {
+                return false;
+            }
+        }
+
+        ImportableType rawImplType = type.implType().rawType();
+        return !existsAsType(rawImplType);
+    }
+
     /** Creates a raw interface type from a {@link TypeElement}. */
     private ImportableType createRawInterfaceType(TypeElement typeElement) {
         checkIsInterface(typeElement);
         checkIsNotPrivate(typeElement);
-        String binaryName = elementUtils.getBinaryName(typeElement).toString();
-        return ImportableType.of(binaryName);
+        return typeResolver.resolve(typeElement);
     }
 
     /** Flattens a nested type into a top-level type by replacing '.' with '_' in the class name. */
@@ -72,7 +103,7 @@ final class ImmutableTypes {
 
         String flatInterfaceClassName = rawInterfaceType.className().replace('.', '_');
         ImportableType flatInterfaceType =
-                ImportableType.ofPackageAndClass(rawInterfaceType.packageName(), flatInterfaceClassName);
+                importableTypes.ofPackageAndClass(rawInterfaceType.packageName(), flatInterfaceClassName);
         checkFlatInterfaceTypeDoesNotExistAsImmutable(flatInterfaceType, originatingElement);
         return flatInterfaceType;
     }
@@ -80,7 +111,7 @@ final class ImmutableTypes {
     /** Creates a raw implementation type from the flat interface type. */
     private ImportableType createRawImplType(ImportableType flatInterfaceType, Element originatingElement) {
         String implClassName = String.format("Immutable%s", flatInterfaceType.className());
-        ImportableType rawImplType = ImportableType.ofPackageAndClass(flatInterfaceType.packageName(), implClassName);
+        ImportableType rawImplType = importableTypes.ofPackageAndClass(flatInterfaceType.packageName(), implClassName);
         checkImplTypeDoesNotExist(rawImplType, originatingElement);
         return rawImplType;
     }
@@ -137,29 +168,36 @@ final class ImmutableTypes {
      */
     private boolean checkFlatInterfaceTypeDoesNotExistAsImmutable(
             ImportableType flatInterfaceType, Element originatingElement) {
-        String qualifiedName = flatInterfaceType.qualifiedName();
-        TypeElement flatTypeElement = elementUtils.getTypeElement(qualifiedName);
-        if (flatTypeElement == null) {
-            return true;
-        }
-
-        Immutable immutable = flatTypeElement.getAnnotation(Immutable.class);
-        if (immutable == null) {
+        if (!existsAsImmutableType(flatInterfaceType)) {
             return true;
         }
 
+        String qualifiedName = flatInterfaceType.qualifiedName();
         String message = String.format("flat interface type already exists as @Immutable type: %s", qualifiedName);
         return diagnostics.add(Diagnostic.Kind.ERROR, message, originatingElement);
     }
 
     /** Checks that the implementation type to be generated does not already exist. */
     private boolean checkImplTypeDoesNotExist(ImportableType rawImplType, Element originatingElement) {
-        String qualifiedName = rawImplType.qualifiedName();
-        if (elementUtils.getTypeElement(qualifiedName) == null) {
+        if (!existsAsType(rawImplType)) {
             return true;
         }
 
+        String qualifiedName = rawImplType.qualifiedName();
         String message = String.format("implementation type already exists: %s", qualifiedName);
         return diagnostics.add(Diagnostic.Kind.ERROR, message, originatingElement);
     }
+
+    /** Determines if a top-level type exists. */
+    private boolean existsAsType(ImportableType type) {
+        return topLevelTypeResolver.find(type).isPresent();
+    }
+
+    /** Determines if a top-level type exists and is annotated with {@link Immutable}. */
+    private boolean existsAsImmutableType(ImportableType type) {
+        return topLevelTypeResolver
+                .find(type)
+                .map(typeElement -> typeElement.getAnnotation(Immutable.class) != null)
+                .orElse(false);
+    }
 }
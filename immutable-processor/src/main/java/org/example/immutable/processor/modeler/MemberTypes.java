@@ -1,5 +1,6 @@
 package org.example.immutable.processor.modeler;
 
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
 import javax.inject.Inject;
@@ -19,30 +20,38 @@ import javax.lang.model.type.TypeVariable;
 import javax.lang.model.type.TypeVisitor;
 import javax.lang.model.type.UnionType;
 import javax.lang.model.type.WildcardType;
-import javax.lang.model.util.Elements;
 import javax.tools.Diagnostic;
 import org.example.immutable.processor.model.MemberType;
 import org.example.processor.base.ProcessorScope;
 import org.example.processor.diagnostic.Diagnostics;
 import org.example.processor.type.ImportableType;
+import org.example.processor.type.ImportableTypeResolver;
 
 /**
  * Creates {@link MemberType}'s from {@link TypeMirror}'s.
  *
  * <p>The originating {@link Element} is also provided for error reporting purposes.</p>
+ *
+ * <p>The same types are often used by many members, so the {@link MemberType}'s of non-generic declared types
+ * (e.g., {@code String}) are cached. {@link TypeMirror}'s are not canonical, so the cache is keyed by
+ * the {@link TypeElement} of the type. Other types, including type variables and types that failed to compile,
+ * are never cached, so that an error is reported for each originating {@link Element}.
+ * Like {@link ImportableTypeResolver}, the cache should be cleared at the end of each round via {@link #clear()}.
+ * </p>
  */
 @ProcessorScope
 final class MemberTypes {
 
     public static final MemberType ERROR_TYPE = MemberType.of("!");
 
+    private final ImportableTypeResolver typeResolver;
     private final Diagnostics diagnostics;
-    private final Elements elementUtils;
+    private final IdentityHashMap<TypeElement, MemberType> cachedTypes = new IdentityHashMap<>();
 
     @Inject
-    MemberTypes(Diagnostics diagnostics, Elements elementUtils) {
+    MemberTypes(ImportableTypeResolver typeResolver, Diagnostics diagnostics) {
+        this.typeResolver = typeResolver;
         this.diagnostics = diagnostics;
-        this.elementUtils = elementUtils;
     }
 
     /** Creates a {@link MemberType} from a {@link TypeMirror}, or empty if validation fails. */
@@ -53,6 +62,11 @@ final class MemberTypes {
         }
     }
 
+    /** Clears the cached types, since elements may be recreated in later rounds. */
+    public void clear() {
+        cachedTypes.clear();
+    }
+
     /** Recursively builds the {@link MemberType} from the {@link TypeMirror}. */
     private class Builder implements TypeVisitor<MemberType, Void> {
 
@@ -79,6 +93,12 @@ final class MemberTypes {
 
         @Override
         public MemberType visitDeclared(DeclaredType declaredType, Void unused) {
+            if (!isGeneric(declaredType)) {
+                TypeElement typeElement = (TypeElement) declaredType.asElement();
+                return cachedTypes.computeIfAbsent(
+                        typeElement, te -> MemberType.declaredType(typeResolver.resolve(te)));
+            }
+
             ImportableType rawType = toImportableType(declaredType);
             List<MemberType> typeArgModels = visitTypeArguments(declaredType);
             MemberType typeModel = MemberType.declaredType(rawType, typeArgModels);
@@ -154,8 +174,21 @@ final class MemberTypes {
         /** Converts a {@link DeclaredType} to an {@link ImportableType}. */
         private ImportableType toImportableType(DeclaredType declaredType) {
             TypeElement typeElement = (TypeElement) declaredType.asElement();
-            String binaryName = elementUtils.getBinaryName(typeElement).toString();
-            return ImportableType.of(binaryName);
+            return typeResolver.resolve(typeElement);
+        }
+
+        /** Determines if a {@link DeclaredType} or any of its outer types has type arguments. */
+        private boolean isGeneric(DeclaredType declaredType) {
+            TypeMirror typeMirror = declaredType;
+            while (typeMirror.getKind() != TypeKind.NONE) {
+                DeclaredType outerDeclaredType = (DeclaredType) typeMirror;
+                if (!outerDeclaredType.getTypeArguments().isEmpty()) {
+                    return true;
+                }
+
+                typeMirror = outerDeclaredType.getEnclosingType();
+            }
+            return false;
         }
 
         /** Visits the type arguments for a {@link DeclaredType}. */
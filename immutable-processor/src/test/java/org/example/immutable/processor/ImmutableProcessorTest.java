@@ -2,6 +2,7 @@ package org.example.immutable.processor;
 
 import static com.google.testing.compile.CompilationSubject.assertThat;
 
+import com.google.common.truth.StringSubject;
 import com.google.testing.compile.Compilation;
 import com.google.testing.compile.JavaFileObjects;
 import java.io.IOException;
@@ -19,6 +20,11 @@ public final class ImmutableProcessorTest {
         compile("test/Empty.java", "test.ImmutableEmpty", "generated/test/ImmutableEmpty.java");
     }
 
+    @Test
+    public void compile_EmptyBuilder() {
+        compile("test/EmptyBuilder.java", "test.ImmutableEmptyBuilder", "generated/test/ImmutableEmptyBuilder.java");
+    }
+
     @Test
     public void compile_Rectangle() {
         compile("test/Rectangle.java", "test.ImmutableRectangle", "generated/test/ImmutableRectangle.java");
@@ -32,6 +38,66 @@ public final class ImmutableProcessorTest {
                 "generated/test/ImmutableColoredRectangle.java");
     }
 
+    @Test
+    public void compile_Polygon() {
+        compile("test/Polygon.java", "test.ImmutablePolygon", "generated/test/ImmutablePolygon.java");
+    }
+
+    @Test
+    public void compile_Point() {
+        compile("test/Point.java", "test.ImmutablePoint", "generated/test/ImmutablePoint.java");
+    }
+
+    @Test
+    public void compile_Range() {
+        compile("test/Range.java", "test.ImmutableRange", "generated/test/ImmutableRange.java");
+    }
+
+    @Test
+    public void compile_Account() {
+        compile("test/Account.java", "test.ImmutableAccount", "generated/test/ImmutableAccount.java");
+    }
+
+    @Test
+    public void compile_Pair() {
+        compile("test/Pair.java", "test.ImmutablePair", "generated/test/ImmutablePair.java");
+    }
+
+    @Test
+    public void compile_ConflictingObject() {
+        // java.lang.Object must be qualified in equals(), since another referenced type is also named Object.
+        Compilation compilation =
+                TestCompiler.create().compile("test/ConflictingObject.java", "test/conflict/Object.java");
+        assertThat(compilation)
+                .generatedSourceFile("test.ImmutableConflictingObject")
+                .hasSourceEquivalentTo(JavaFileObjects.forResource("generated/test/ImmutableConflictingObject.java"));
+    }
+
+    @Test
+    public void compile_ConflictingString() {
+        // java.lang.String must be qualified in toString(), since another referenced type is also named String.
+        Compilation compilation =
+                TestCompiler.create().compile("test/ConflictingString.java", "test/conflict/String.java");
+        assertThat(compilation)
+                .generatedSourceFile("test.ImmutableConflictingString")
+                .hasSourceEquivalentTo(JavaFileObjects.forResource("generated/test/ImmutableConflictingString.java"));
+    }
+
+    @Test
+    public void compile_Wide() {
+        // The source is long, so only the parts of the builder that use the second word of set bits are verified.
+        Compilation compilation = TestCompiler.create().compile("test/Wide.java");
+        StringSubject source = assertThat(compilation)
+                .generatedSourceFile("test.ImmutableWide")
+                .contentsAsUtf8String();
+        source.contains("        private long setBits$0;\n        private long setBits$1;\n");
+        source.contains("            setBits$0 |= 0x8000000000000000L;\n");
+        source.contains("            setBits$1 |= 0x1L;\n");
+        source.contains("            if ((setBits$0 != 0xffffffffffffffffL) || (setBits$1 != 0x1L)) {\n");
+        source.contains("            setBits$1 = 0L;\n");
+        source.contains("            if ((setBits$1 & 0x1L) == 0L) {\n                message.append(\" m64\");\n");
+    }
+
     private void compile(String sourcePath, String generatedSourceName, String expectedGeneratedSourcePath) {
         Compilation compilation = TestCompiler.create().compile(sourcePath);
         assertThat(compilation)
@@ -0,0 +1,103 @@
+package org.example.immutable.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.testing.compile.Compilation;
+import org.example.immutable.processor.test.TestClassLoader;
+import org.example.immutable.processor.test.TestCompiler;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public final class ImmutableRuntimeTest {
+
+    private static TestClassLoader classLoader;
+
+    @BeforeAll
+    public static void compile() {
+        Compilation compilation = TestCompiler.create()
+                .expectingCompilationFailureWithoutProcessor()
+                .compile(
+                        "test/Account.java",
+                        "test/EmptyBuilder.java",
+                        "test/Pair.java",
+                        "test/Point.java",
+                        "test/Wide.java",
+                        "test/RuntimeUsage.java");
+        classLoader = TestClassLoader.fromCompilation(compilation);
+    }
+
+    @Test
+    public void builder_Build() throws Exception {
+        Object account = run("buildAccount");
+        assertThat(account).hasToString("Account{id=1, owner=owner, active=true}");
+    }
+
+    @Test
+    public void builder_Build_Generic() throws Exception {
+        Object pair = run("buildPair");
+        assertThat(pair).hasToString("Pair{key=key, value=1}");
+    }
+
+    @Test
+    public void builder_Build_MultipleWords() throws Exception {
+        Object wide = run("buildWide");
+        assertThat(wide.toString()).startsWith("Wide{m00=0, m01=1, ").endsWith(", m63=63, m64=64}");
+    }
+
+    @Test
+    public void builder_Build_NoMembers() throws Exception {
+        Object emptyBuilder = run("buildEmptyBuilder");
+        assertThat(emptyBuilder.getClass().getName()).isEqualTo("test.ImmutableEmptyBuilder");
+    }
+
+    @Test
+    public void builder_Clear() {
+        assertThatThrownBy(() -> run("buildAccount_Cleared"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("members not set: id owner active");
+    }
+
+    @Test
+    public void builder_Reused() throws Exception {
+        Object account = run("buildAccount_Reused");
+        assertThat(account).hasToString("Account{id=2, owner=other owner, active=false}");
+    }
+
+    @Test
+    public void with_Unchanged() throws Exception {
+        Object isSame = run("withPoint_Unchanged");
+        assertThat(isSame).isEqualTo(true);
+    }
+
+    @Test
+    public void with_Changed() throws Exception {
+        Object point = run("withPoint_Changed");
+        assertThat(point).hasToString("Point{x=1.0, y=-0.0, label=label}");
+    }
+
+    @Test
+    public void error_builder_MissingMember() {
+        assertThatThrownBy(() -> run("buildAccount_MissingMember"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("members not set: owner");
+    }
+
+    @Test
+    public void error_builder_MissingMember_FirstWord() {
+        assertThatThrownBy(() -> run("buildWide_MissingFirstMember"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("members not set: m00");
+    }
+
+    @Test
+    public void error_builder_MissingMember_LastWord() {
+        assertThatThrownBy(() -> run("buildWide_MissingLastMember"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("members not set: m64");
+    }
+
+    private static Object run(String methodName) throws Exception {
+        return classLoader.invoke("test.RuntimeUsage", methodName);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.immutable.processor.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public final class BuildSaltTest {
+
+    @Test
+    public void of_Stable() {
+        String salt1 = BuildSalt.of(List.of(BuildSalt.class));
+        String salt2 = BuildSalt.of(List.of(BuildSalt.class));
+        assertThat(salt1).hasSize(64);
+        assertThat(salt1).isEqualTo(salt2);
+    }
+
+    @Test
+    public void of_Different() {
+        String salt1 = BuildSalt.of(List.of(BuildSalt.class));
+        String salt2 = BuildSalt.of(List.of(Test.class));
+        assertThat(salt1).isNotEqualTo(salt2);
+    }
+
+    @Test
+    public void of_NoCodeSource() {
+        // Classes from the bootstrap class loader do not have a code source, so the salt is random.
+        String salt1 = BuildSalt.of(List.of(String.class));
+        String salt2 = BuildSalt.of(List.of(String.class));
+        assertThat(salt1).isNotEqualTo(salt2);
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.immutable.processor.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.testing.compile.Compilation;
+import java.util.List;
+import javax.annotation.processing.Filer;
+import javax.inject.Inject;
+import javax.lang.model.element.TypeElement;
+import org.example.immutable.Immutable;
+import org.example.immutable.processor.test.TestCompiler;
+import org.example.immutable.processor.test.TestResources;
+import org.example.processor.base.IsolatingLiteProcessor;
+import org.example.processor.base.ProcessorScope;
+import org.example.processor.type.ImportableTypeResolver;
+import org.junit.jupiter.api.Test;
+
+public final class FingerprintsTest {
+
+    @Test
+    public void create_Stable() throws Exception {
+        String fingerprint1 = createFingerprint("test/Rectangle.java");
+        String fingerprint2 = createFingerprint("test/Rectangle.java");
+        assertThat(fingerprint1).hasSize(64);
+        assertThat(fingerprint1).isEqualTo(fingerprint2);
+    }
+
+    @Test
+    public void create_Different() throws Exception {
+        String fingerprint1 = createFingerprint("test/Rectangle.java");
+        String fingerprint2 = createFingerprint("test/Empty.java");
+        assertThat(fingerprint1).isNotEqualTo(fingerprint2);
+    }
+
+    @Test
+    public void create_Memoized() throws Exception {
+        String sourcePath = "test/Rectangle.java";
+        Compilation compilation =
+                TestCompiler.create(MemoizedTestLiteProcessor.class).compile(sourcePath);
+        boolean isMemoized = TestResources.loadObjectForSource(compilation, sourcePath, new TypeReference<>() {});
+        assertThat(isMemoized).isTrue();
+    }
+
+    @Test
+    public void create_SaltChanged() throws Exception {
+        String sourcePath = "test/Rectangle.java";
+        Compilation compilation =
+                TestCompiler.create(SaltedTestLiteProcessor.class).compile(sourcePath);
+        List<String> fingerprints =
+                TestResources.loadObjectForSource(compilation, sourcePath, new TypeReference<>() {});
+        assertThat(fingerprints).hasSize(2);
+        assertThat(fingerprints.get(0)).isNotEqualTo(fingerprints.get(1));
+    }
+
+    private String createFingerprint(String sourcePath) throws Exception {
+        Compilation compilation = TestCompiler.create(TestLiteProcessor.class).compile(sourcePath);
+        return TestResources.loadObjectForSource(compilation, sourcePath, new TypeReference<>() {});
+    }
+
+    @ProcessorScope
+    public static final class TestLiteProcessor extends IsolatingLiteProcessor<TypeElement> {
+
+        private final Fingerprints fingerprints;
+        private final Filer filer;
+
+        @Inject
+        TestLiteProcessor(Fingerprints fingerprints, Filer filer) {
+            super(Immutable.class);
+            this.fingerprints = fingerprints;
+            this.filer = filer;
+        }
+
+        @Override
+        protected void process(TypeElement typeElement) {
+            String fingerprint = fingerprints.create(typeElement);
+            TestResources.saveObject(filer, typeElement, fingerprint);
+        }
+    }
+
+    @ProcessorScope
+    public static final class MemoizedTestLiteProcessor extends IsolatingLiteProcessor<TypeElement> {
+
+        private final Fingerprints fingerprints;
+        private final Filer filer;
+
+        @Inject
+        MemoizedTestLiteProcessor(Fingerprints fingerprints, Filer filer) {
+            super(Immutable.class);
+            this.fingerprints = fingerprints;
+            this.filer = filer;
+        }
+
+        @Override
+        protected void process(TypeElement typeElement) {
+            // Compare the fingerprints as objects, since the same instance should be returned.
+            Object fingerprint1 = fingerprints.create(typeElement);
+            Object fingerprint2 = fingerprints.create(typeElement);
+            boolean isMemoized = fingerprint1 == fingerprint2;
+            TestResources.saveObject(filer, typeElement, isMemoized);
+        }
+    }
+
+    @ProcessorScope
+    public static final class SaltedTestLiteProcessor extends IsolatingLiteProcessor<TypeElement> {
+
+        private final ImportableTypeResolver typeResolver;
+        private final Filer filer;
+
+        @Inject
+        SaltedTestLiteProcessor(ImportableTypeResolver typeResolver, Filer filer) {
+            super(Immutable.class);
+            this.typeResolver = typeResolver;
+            this.filer = filer;
+        }
+
+        @Override
+        protected void process(TypeElement typeElement) {
+            // A cache entry is only loaded if its fingerprint matches, so a new build of the processor misses.
+            String fingerprint1 = new Fingerprints(typeResolver, "build 1").create(typeElement);
+            String fingerprint2 = new Fingerprints(typeResolver, "build 2").create(typeElement);
+            TestResources.saveObject(filer, typeElement, List.of(fingerprint1, fingerprint2));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.immutable.processor.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import org.example.immutable.processor.model.ImmutableImpl;
+import org.example.immutable.processor.test.TestImmutableImpls;
+import org.example.processor.type.ImportableTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public final class ModelCacheTest {
+
+    private static final String SOURCE = "class ImmutableRectangle {}";
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void load_Hit() throws IOException {
+        ModelCache cache = createModelCache();
+        ImmutableImpl impl = TestImmutableImpls.rectangle();
+        cache.store("test.Rectangle", "fingerprint", impl, SOURCE);
+        Optional<CacheEntry> maybeEntry = cache.load("test.Rectangle", "fingerprint");
+        assertThat(maybeEntry).isPresent();
+        CacheEntry entry = maybeEntry.get();
+        assertThat(entry.impl()).isEqualTo(impl);
+        assertThat(entry.source()).isEqualTo(SOURCE);
+    }
+
+    @Test
+    public void load_Miss_NotStored() {
+        ModelCache cache = createModelCache();
+        assertThat(cache.load("test.Rectangle", "fingerprint")).isEmpty();
+    }
+
+    @Test
+    public void load_Miss_FingerprintChanged() throws IOException {
+        ModelCache cache = createModelCache();
+        cache.store("test.Rectangle", "fingerprint", TestImmutableImpls.rectangle(), SOURCE);
+        assertThat(cache.load("test.Rectangle", "other fingerprint")).isEmpty();
+    }
+
+    @Test
+    public void load_Miss_SourceCorrupted() throws IOException {
+        ModelCache cache = createModelCache();
+        cache.store("test.Rectangle", "fingerprint", TestImmutableImpls.rectangle(), SOURCE);
+        Path entryPath = tempDir.resolve("test.Rectangle.bin");
+        String entryText = Files.readString(entryPath, StandardCharsets.ISO_8859_1);
+        String corruptedEntryText = entryText.replace("ImmutableRectangle {}", "ImmutableRectangle {]");
+        Files.writeString(entryPath, corruptedEntryText, StandardCharsets.ISO_8859_1);
+        assertThat(cache.load("test.Rectangle", "fingerprint")).isEmpty();
+    }
+
+    @Test
+    public void load_Miss_EntryCorrupted() throws IOException {
+        ModelCache cache = createModelCache();
+        Files.write(tempDir.resolve("test.Rectangle.bin"), new byte[] {1, 2, 3});
+        assertThat(cache.load("test.Rectangle", "fingerprint")).isEmpty();
+    }
+
+    @Test
+    public void disabled() throws IOException {
+        ModelCache cache = ModelCache.fromOptions(Map.of(), "cacheDir", new ImportableTypes());
+        assertThat(cache.isEnabled()).isFalse();
+        cache.store("test.Rectangle", "fingerprint", TestImmutableImpls.rectangle(), SOURCE);
+        assertThat(cache.load("test.Rectangle", "fingerprint")).isEmpty();
+    }
+
+    private ModelCache createModelCache() {
+        return ModelCache.fromOptions(Map.of("cacheDir", tempDir.toString()), "cacheDir", new ImportableTypes());
+    }
+}
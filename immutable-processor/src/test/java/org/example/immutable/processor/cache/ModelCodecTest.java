@@ -0,0 +1,105 @@
+package org.example.immutable.processor.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Arrays;
+import org.example.immutable.processor.model.ImmutableImpl;
+import org.example.immutable.processor.test.TestImmutableImpls;
+import org.example.immutable.processor.test.TestResources;
+import org.example.processor.type.ImportableType;
+import org.example.processor.type.ImportableTypes;
+import org.junit.jupiter.api.Test;
+
+public final class ModelCodecTest {
+
+    @Test
+    public void encodeAndDecode_Rectangle() throws IOException {
+        TestResources.serializeAndDeserialize(TestImmutableImpls.rectangle());
+    }
+
+    @Test
+    public void encodeAndDecode_ColoredRectangle() throws IOException {
+        TestResources.serializeAndDeserialize(TestImmutableImpls.coloredRectangle());
+    }
+
+    @Test
+    public void encodeAndDecode_Point() throws IOException {
+        TestResources.serializeAndDeserialize(TestImmutableImpls.point());
+    }
+
+    @Test
+    public void encodeAndDecode_Range() throws IOException {
+        TestResources.serializeAndDeserialize(TestImmutableImpls.range());
+    }
+
+    @Test
+    public void encodeAndDecode_Account() throws IOException {
+        TestResources.serializeAndDeserialize(TestImmutableImpls.account());
+    }
+
+    @Test
+    public void encodeAndDecode_Pair() throws IOException {
+        TestResources.serializeAndDeserialize(TestImmutableImpls.pair());
+    }
+
+    @Test
+    public void encodeAndDecode_Empty() throws IOException {
+        TestResources.serializeAndDeserialize(TestImmutableImpls.empty());
+    }
+
+    @Test
+    public void encodeAndDecode_EmptyBuilder() throws IOException {
+        TestResources.serializeAndDeserialize(TestImmutableImpls.emptyBuilder());
+    }
+
+    @Test
+    public void encodeAndDecode_CacheEntry() throws IOException {
+        CacheEntry entry = CacheEntry.of("fingerprint", TestImmutableImpls.coloredRectangle(), "source");
+        CacheEntry decodedEntry = ModelCodec.decodeEntry(ModelCodec.encode(entry), new ImportableTypes());
+        assertThat(decodedEntry).isEqualTo(entry);
+    }
+
+    @Test
+    public void encode_SmallerThanJson() throws IOException {
+        ImmutableImpl impl = TestImmutableImpls.coloredRectangle();
+        byte[] json = new ObjectMapper().writeValueAsBytes(impl);
+        byte[] encoding = ModelCodec.encode(impl);
+        assertThat(encoding.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    public void decode_SharedImportableTypes() throws IOException {
+        ImmutableImpl impl =
+                ModelCodec.decodeImpl(ModelCodec.encode(TestImmutableImpls.coloredRectangle()), new ImportableTypes());
+        assertThat(impl.members().get(2).type().args().get(1))
+                .isSameAs(impl.members().get(1).type().args().get(0));
+    }
+
+    @Test
+    public void decode_CanonicalImportableTypes() throws IOException {
+        ImportableTypes importableTypes = new ImportableTypes();
+        ImportableType colorType = importableTypes.of("java.awt.Color");
+        ImmutableImpl impl =
+                ModelCodec.decodeImpl(ModelCodec.encode(TestImmutableImpls.coloredRectangle()), importableTypes);
+        assertThat(impl.members().get(1).type().args().get(0)).isSameAs(colorType);
+    }
+
+    @Test
+    public void error_decodeImpl_Truncated() {
+        byte[] encoding = ModelCodec.encode(TestImmutableImpls.rectangle());
+        byte[] truncatedEncoding = Arrays.copyOf(encoding, encoding.length - 1);
+        assertThatThrownBy(() -> ModelCodec.decodeImpl(truncatedEncoding, new ImportableTypes()))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void error_decodeEntry_Impl() {
+        byte[] encoding = ModelCodec.encode(TestImmutableImpls.rectangle());
+        assertThatThrownBy(() -> ModelCodec.decodeEntry(encoding, new ImportableTypes()))
+                .isInstanceOf(IOException.class)
+                .hasMessage("malformed encoding: unexpected kind 0");
+    }
+}
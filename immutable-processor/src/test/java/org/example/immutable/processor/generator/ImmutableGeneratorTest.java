@@ -38,11 +38,58 @@ public final class ImmutableGeneratorTest {
                 "generated/test/ImmutableColoredRectangle.java");
     }
 
+    @Test
+    public void generateSourceFile_Polygon() throws IOException {
+        generateSourceFile(
+                TestImmutableImpls.polygon(), "test.ImmutablePolygon", "generated/test/ImmutablePolygon.java");
+    }
+
+    @Test
+    public void generateSourceFile_Point() throws IOException {
+        generateSourceFile(TestImmutableImpls.point(), "test.ImmutablePoint", "generated/test/ImmutablePoint.java");
+    }
+
+    @Test
+    public void generateSourceFile_Range() throws IOException {
+        generateSourceFile(TestImmutableImpls.range(), "test.ImmutableRange", "generated/test/ImmutableRange.java");
+    }
+
+    @Test
+    public void generateSourceFile_Account() throws IOException {
+        generateSourceFile(
+                TestImmutableImpls.account(), "test.ImmutableAccount", "generated/test/ImmutableAccount.java");
+    }
+
+    @Test
+    public void generateSourceFile_Pair() throws IOException {
+        generateSourceFile(TestImmutableImpls.pair(), "test.ImmutablePair", "generated/test/ImmutablePair.java");
+    }
+
     @Test
     public void generateSourceFile_Empty() throws IOException {
         generateSourceFile(TestImmutableImpls.empty(), "test.ImmutableEmpty", "generated/test/ImmutableEmpty.java");
     }
 
+    @Test
+    public void generateSourceFile_EmptyBuilder() throws IOException {
+        generateSourceFile(
+                TestImmutableImpls.emptyBuilder(),
+                "test.ImmutableEmptyBuilder",
+                "generated/test/ImmutableEmptyBuilder.java");
+    }
+
+    @Test
+    public void generateSourceFile_MultipleFiles() throws IOException {
+        Map<String, StringWriter> filesystem = new HashMap<>();
+        ImmutableGenerator generator = createImmutableGenerator(filesystem);
+        generator.generateSourceFile(TestImmutableImpls.rectangle(), mock(TypeElement.class));
+        generator.generateSourceFile(TestImmutableImpls.coloredRectangle(), mock(TypeElement.class));
+        assertThat(getGeneratedSourceCode(filesystem, "test.ImmutableRectangle"))
+                .isEqualTo(loadExpectedSourceCode("generated/test/ImmutableRectangle.java"));
+        assertThat(getGeneratedSourceCode(filesystem, "test.ImmutableColoredRectangle"))
+                .isEqualTo(loadExpectedSourceCode("generated/test/ImmutableColoredRectangle.java"));
+    }
+
     private void generateSourceFile(ImmutableImpl impl, String generatedSourceName, String expectedGeneratedSourcePath)
             throws IOException {
         Map<String, StringWriter> filesystem = new HashMap<>();
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.List;
 import org.example.immutable.processor.model.ImmutableImpl;
 import org.example.immutable.processor.model.ImmutableMember;
+import org.example.immutable.processor.model.ImmutableOptions;
 import org.example.immutable.processor.model.ImmutableType;
 import org.example.immutable.processor.model.MemberType;
 import org.example.processor.imports.ImportManager;
@@ -24,6 +25,16 @@ public final class ImmutableImplGeneratorTest {
             (writer, impl) -> writer.println("    [constructor]");
     private static final SourceGenerator<ImmutableMember> METHOD_GENERATOR =
             (writer, member) -> writer.println("    [method]");
+    private static final SourceGenerator<ImmutableImpl> WITHERS_GENERATOR =
+            (writer, impl) -> writer.println().println("    [withers]");
+    private static final SourceGenerator<ImmutableImpl> EQUALS_GENERATOR =
+            (writer, impl) -> writer.println("    [equals]");
+    private static final SourceGenerator<ImmutableImpl> HASH_CODE_GENERATOR =
+            (writer, impl) -> writer.println("    [hashCode]");
+    private static final SourceGenerator<ImmutableImpl> TO_STRING_GENERATOR =
+            (writer, impl) -> writer.println("    [toString]");
+    private static final SourceGenerator<ImmutableImpl> BUILDER_GENERATOR =
+            (writer, impl) -> writer.println().println("    [builder]");
 
     private static final SourceGenerator<ImmutableMember> CONSTRUCTOR_ARG_GENERATOR =
             (writer, member) -> writer.format("double %s", member.name());
@@ -43,12 +54,53 @@ public final class ImmutableImplGeneratorTest {
                         "",
                         "    [field]",
                         "    [field]",
+                        "    private int hashCode$;",
                         "",
                         "    [constructor]",
                         "",
                         "    [method]",
                         "",
                         "    [method]",
+                        "",
+                        "    [equals]",
+                        "",
+                        "    [hashCode]",
+                        "",
+                        "    [toString]",
+                        "}",
+                        ""));
+    }
+
+    @Test
+    public void toSource_WithersAndBuilder() {
+        SourceGenerator<ImmutableImpl> generator = createSourceGenerator();
+        ImmutableImpl impl = ImmutableImpl.of(createType(), createImpl().members(), ImmutableOptions.of(true, true));
+        assertThat(generator.toSource(impl))
+                .isEqualTo(String.join(
+                        "\n",
+                        "[packageAndImports]",
+                        "",
+                        "[typeDeclaration] {",
+                        "",
+                        "    [field]",
+                        "    [field]",
+                        "    private int hashCode$;",
+                        "",
+                        "    [constructor]",
+                        "",
+                        "    [method]",
+                        "",
+                        "    [method]",
+                        "",
+                        "    [withers]",
+                        "",
+                        "    [equals]",
+                        "",
+                        "    [hashCode]",
+                        "",
+                        "    [toString]",
+                        "",
+                        "    [builder]",
                         "}",
                         ""));
     }
@@ -88,7 +140,12 @@ public final class ImmutableImplGeneratorTest {
                 TYPE_GENERATOR,
                 FIELD_GENERATOR,
                 CONSTRUCTOR_GENERATOR,
-                METHOD_GENERATOR);
+                METHOD_GENERATOR,
+                WITHERS_GENERATOR,
+                EQUALS_GENERATOR,
+                HASH_CODE_GENERATOR,
+                TO_STRING_GENERATOR,
+                BUILDER_GENERATOR);
     }
 
     private static SourceGenerator<ImmutableImpl> createConstructorGenerator() {
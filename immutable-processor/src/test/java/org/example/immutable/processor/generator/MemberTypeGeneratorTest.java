@@ -2,10 +2,10 @@ package org.example.immutable.processor.generator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.io.PrintWriter;
 import java.util.Map;
 import org.example.immutable.processor.model.MemberType;
 import org.example.processor.source.SourceGenerator;
+import org.example.processor.source.SourceWriter;
 import org.example.processor.type.ImportableType;
 import org.junit.jupiter.api.Test;
 
@@ -25,7 +25,7 @@ public final class MemberTypeGeneratorTest {
         return new MemberTypeGenerator(MemberTypeGeneratorTest::qualifyStringOnly);
     }
 
-    private static void qualifyStringOnly(PrintWriter writer, ImportableType type) {
+    private static void qualifyStringOnly(SourceWriter writer, ImportableType type) {
         String name = !type.equals(ImportableType.ofClass(String.class)) ? type.simpleName() : type.qualifiedName();
         writer.print(name);
     }
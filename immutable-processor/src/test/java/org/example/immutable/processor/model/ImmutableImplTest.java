@@ -2,9 +2,10 @@ package org.example.immutable.processor.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import java.awt.Color;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.processing.Generated;
@@ -30,17 +31,44 @@ public final class ImmutableImplTest {
                 Set.of(
                         ImportableType.ofClass(Generated.class),
                         ImportableType.ofClass(Override.class),
+                        ImportableType.ofClass(Object.class),
+                        ImportableType.ofClass(String.class),
+                        ImportableType.ofClass(StringBuilder.class),
                         ImportableType.of("test.ImmutableColoredRectangle"),
                         ImportableType.of("test.ColoredRectangle"),
                         ImportableType.of("test.Rectangle"),
                         ImportableType.ofClass(Color.class),
+                        ImportableType.ofClass(Objects.class),
                         ImportableType.ofClass(Optional.class)));
         assertThat(importManager).isEqualTo(expectedImportManager);
     }
 
     @Test
-    public void serializeAndDeserialize() throws JsonProcessingException {
+    public void importManager_Builder() {
+        ImmutableType type = ImmutableType.of(
+                MemberType.declaredType(ImportableType.of("test.ImmutableFactory")),
+                MemberType.declaredType(ImportableType.of("test.Factory")));
+        ImmutableMember tool =
+                ImmutableMember.of("tool", MemberType.declaredType(ImportableType.of("test.tool.Builder")));
+        ImmutableImpl impl = ImmutableImpl.of(type, List.of(tool), ImmutableOptions.of(false, true));
+        ImportManager expectedImportManager = SimpleImportManager.of(
+                "test",
+                Set.of(
+                        ImportableType.ofClass(Generated.class),
+                        ImportableType.ofClass(Override.class),
+                        ImportableType.ofClass(Object.class),
+                        ImportableType.ofClass(String.class),
+                        ImportableType.ofClass(StringBuilder.class),
+                        ImportableType.of("test.ImmutableFactory"),
+                        ImportableType.of("test.Factory"),
+                        ImportableType.ofClass(Objects.class),
+                        ImportableType.ofClass(IllegalStateException.class)));
+        assertThat(impl.importManager()).isEqualTo(expectedImportManager);
+    }
+
+    @Test
+    public void serializeAndDeserialize() throws IOException {
         ImmutableImpl impl = TestImmutableImpls.rectangle();
-        TestResources.serializeAndDeserialize(impl, new TypeReference<>() {});
+        TestResources.serializeAndDeserialize(impl);
     }
 }
@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Objects;
 import org.example.immutable.processor.test.TestResources;
 import org.example.processor.type.ImportableType;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,39 @@ public final class MemberTypeTest {
         assertThat(type.args()).isEmpty();
     }
 
+    @Test
+    public void helperType_Primitive() {
+        MemberType type = MemberType.primitiveType("double");
+        assertThat(type.isPrimitive()).isTrue();
+        assertThat(type.isArray()).isFalse();
+        assertThat(type.helperType()).isEqualTo(ImportableType.ofClass(Double.class));
+    }
+
+    @Test
+    public void helperType_Array() {
+        MemberType type = MemberType.arrayType(MemberType.primitiveType("int"));
+        assertThat(type.isPrimitive()).isFalse();
+        assertThat(type.isArray()).isTrue();
+        assertThat(type.isNestedArray()).isFalse();
+        assertThat(type.helperType()).isEqualTo(ImportableType.ofClass(Arrays.class));
+    }
+
+    @Test
+    public void helperType_NestedArray() {
+        MemberType type = MemberType.arrayType(MemberType.arrayType(MemberType.primitiveType("int")));
+        assertThat(type.isArray()).isTrue();
+        assertThat(type.isNestedArray()).isTrue();
+        assertThat(type.helperType()).isEqualTo(ImportableType.ofClass(Arrays.class));
+    }
+
+    @Test
+    public void helperType_Declared() {
+        MemberType type = MemberType.declaredType(ImportableType.ofClass(String.class));
+        assertThat(type.isPrimitive()).isFalse();
+        assertThat(type.isArray()).isFalse();
+        assertThat(type.helperType()).isEqualTo(ImportableType.ofClass(Objects.class));
+    }
+
     @Test
     public void declaredType_NonGeneric() {
         MemberType type = MemberType.declaredType(ImportableType.ofClass(String.class));
@@ -126,6 +161,21 @@ public final class MemberTypeTest {
                 .containsExactly(ImportableType.ofClass(String.class), ImportableType.ofClass(Integer.class));
     }
 
+    @Test
+    public void nameSegments() {
+        MemberType type = MemberType.declaredType(
+                ImportableType.ofClass(Map.class),
+                MemberType.declaredType(ImportableType.ofClass(String.class)),
+                MemberType.wildcardExtendsType(MemberType.declaredType(ImportableType.ofClass(Runnable.class))));
+        assertThat(type.nameSegments()).containsExactly("", "<", ", ? extends ", ">");
+    }
+
+    @Test
+    public void nameSegments_NoArgs() {
+        MemberType type = MemberType.arrayType(MemberType.primitiveType("int"));
+        assertThat(type.nameSegments()).containsExactly("int[]");
+    }
+
     @Test
     public void serializeAndDeserialize() throws JsonProcessingException {
         MemberType type = MemberType.declaredType(ImportableType.ofClass(String.class));
@@ -8,8 +8,10 @@ import java.util.List;
 import javax.annotation.processing.Filer;
 import javax.inject.Inject;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Name;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
 import org.example.immutable.Immutable;
 import org.example.immutable.processor.test.TestCompiler;
 import org.example.immutable.processor.test.TestResources;
@@ -24,6 +26,30 @@ public final class ElementNavigatorTest {
         getMethodsToImplement("test/Rectangle.java", List.of("width", "height"));
     }
 
+    @Test
+    public void getMethodsToImplement_InterfaceHierarchy() throws Exception {
+        getMethodsToImplement("test/InterfaceHierarchy.java", List.of("size", "name", "value", "version", "id"));
+    }
+
+    @Test
+    public void getMethodsToImplement_ObjectMethods() throws Exception {
+        getMethodsToImplement("test/method/ObjectMethods.java", List.of("member"));
+    }
+
+    @Test
+    public void getMethodsToImplement_MemberOrder() throws Exception {
+        getMethodsToImplement("test/MemberOrder.java", List.of("root", "first", "second", "own"));
+    }
+
+    @Test
+    public void getMethodsToImplement_MostSpecificReturnType() throws Exception {
+        String sourcePath = "test/MostSpecificReturnType.java";
+        Compilation compilation =
+                TestCompiler.create(ReturnTypesTestLiteProcessor.class).compile(sourcePath);
+        List<String> returnTypes = TestResources.loadObjectForSource(compilation, sourcePath, new TypeReference<>() {});
+        assertThat(returnTypes).containsExactly("java.lang.String", "java.lang.String");
+    }
+
     private void getMethodsToImplement(String sourcePath, List<String> expectedMethodNames) throws Exception {
         Compilation compilation = TestCompiler.create(TestLiteProcessor.class).compile(sourcePath);
         List<String> methodNames = TestResources.loadObjectForSource(compilation, sourcePath, new TypeReference<>() {});
@@ -53,4 +79,28 @@ public final class ElementNavigatorTest {
             TestResources.saveObject(filer, typeElement, methodNames);
         }
     }
+
+    @ProcessorScope
+    public static final class ReturnTypesTestLiteProcessor extends IsolatingLiteProcessor<TypeElement> {
+
+        private final ElementNavigator navigator;
+        private final Filer filer;
+
+        @Inject
+        ReturnTypesTestLiteProcessor(ElementNavigator navigator, Filer filer) {
+            super(Immutable.class);
+            this.navigator = navigator;
+            this.filer = filer;
+        }
+
+        @Override
+        protected void process(TypeElement typeElement) {
+            List<String> returnTypes = navigator
+                    .getMethodsToImplement(typeElement)
+                    .map(ExecutableElement::getReturnType)
+                    .map(TypeMirror::toString)
+                    .toList();
+            TestResources.saveObject(filer, typeElement, returnTypes);
+        }
+    }
 }
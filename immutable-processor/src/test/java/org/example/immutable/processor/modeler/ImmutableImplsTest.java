@@ -24,6 +24,11 @@ public final class ImmutableImplsTest {
         create("test/Empty.java", TestImmutableImpls.empty());
     }
 
+    @Test
+    public void create_EmptyBuilder() throws Exception {
+        create("test/EmptyBuilder.java", TestImmutableImpls.emptyBuilder());
+    }
+
     @Test
     public void create_Rectangle() throws Exception {
         create("test/Rectangle.java", TestImmutableImpls.rectangle());
@@ -34,6 +39,31 @@ public final class ImmutableImplsTest {
         create("test/ColoredRectangle.java", TestImmutableImpls.coloredRectangle());
     }
 
+    @Test
+    public void create_Polygon() throws Exception {
+        create("test/Polygon.java", TestImmutableImpls.polygon());
+    }
+
+    @Test
+    public void create_Point() throws Exception {
+        create("test/Point.java", TestImmutableImpls.point());
+    }
+
+    @Test
+    public void create_Range() throws Exception {
+        create("test/Range.java", TestImmutableImpls.range());
+    }
+
+    @Test
+    public void create_Account() throws Exception {
+        create("test/Account.java", TestImmutableImpls.account());
+    }
+
+    @Test
+    public void create_Pair() throws Exception {
+        create("test/Pair.java", TestImmutableImpls.pair());
+    }
+
     private void create(String sourcePath, ImmutableImpl expectedImpl) throws Exception {
         Compilation compilation = TestCompiler.create(TestLiteProcessor.class).compile(sourcePath);
         ImmutableImpl impl = TestResources.loadObjectForSource(compilation, sourcePath, new TypeReference<>() {});
@@ -61,6 +91,13 @@ public final class ImmutableImplsTest {
                 CompilationError.of(10, "[@Immutable] method must not have type parameters"));
     }
 
+    @Test
+    public void error_BuilderFactoryClash() {
+        error(
+                "test/error/BuilderFactoryClash.java",
+                CompilationError.of(8, "[@Immutable] method must not be named builder() if a builder is generated"));
+    }
+
     private void error(String sourcePath, CompilationError... expectedErrors) {
         Compilation compilation = TestCompiler.create(TestLiteProcessor.class)
                 .expectingCompilationFailure()
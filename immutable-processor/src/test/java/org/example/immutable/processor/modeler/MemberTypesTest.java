@@ -6,6 +6,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.testing.compile.Compilation;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import javax.annotation.processing.Filer;
 import javax.inject.Inject;
 import javax.lang.model.element.ExecutableElement;
@@ -101,6 +102,25 @@ public final class MemberTypesTest {
         create("test/method/TypeWildcardSuper.java", expectedType);
     }
 
+    @Test
+    public void create_Repeated() throws Exception {
+        String sourcePath = "test/method/TypeDeclaredRepeated.java";
+        Compilation compilation = TestCompiler.create(MemberTypesTest.AllMembersTestLiteProcessor.class)
+                .compile(sourcePath);
+        List<MemberType> types = TestResources.loadObjectForSource(compilation, sourcePath, new TypeReference<>() {});
+        MemberType expectedType = MemberType.of("%s", ImportableType.ofClass(String.class));
+        assertThat(types).containsExactly(expectedType, expectedType);
+    }
+
+    @Test
+    public void create_Cached() throws Exception {
+        String sourcePath = "test/method/TypeDeclaredRepeated.java";
+        Compilation compilation = TestCompiler.create(MemberTypesTest.CachedTestLiteProcessor.class)
+                .compile(sourcePath);
+        boolean isCached = TestResources.loadObjectForSource(compilation, sourcePath, new TypeReference<>() {});
+        assertThat(isCached).isTrue();
+    }
+
     private void create(String sourcePath, MemberType expectedType) throws Exception {
         Compilation compilation =
                 TestCompiler.create(MemberTypesTest.TestLiteProcessor.class).compile(sourcePath);
@@ -123,6 +143,29 @@ public final class MemberTypesTest {
                 .contains(CompilationError.of(8, "[@Immutable] type failed to compile"));
     }
 
+    @Test
+    public void error_TypeVoid_NotCached() {
+        Compilation compilation = TestCompiler.create(MemberTypesTest.AllMembersTestLiteProcessor.class)
+                .expectingCompilationFailure()
+                .compile("test/method/error/TypeVoidRepeated.java");
+        assertThat(CompilationError.fromCompilation(compilation))
+                .containsExactlyInAnyOrder(
+                        CompilationError.of(8, "[@Immutable] void type not allowed"),
+                        CompilationError.of(10, "[@Immutable] void type not allowed"));
+    }
+
+    @Test
+    public void error_TypeError_NotCached() {
+        Compilation compilation = TestCompiler.create(MemberTypesTest.AllMembersTestLiteProcessor.class)
+                .expectingCompilationFailure()
+                .expectingCompilationFailureWithoutProcessor()
+                .compile("test/method/error/TypeErrorRepeated.java");
+        assertThat(CompilationError.fromCompilation(compilation))
+                .contains(
+                        CompilationError.of(8, "[@Immutable] type failed to compile"),
+                        CompilationError.of(10, "[@Immutable] type failed to compile"));
+    }
+
     private void error(String sourcePath, CompilationError expectedError) {
         Compilation compilation = TestCompiler.create(MemberTypesTest.TestLiteProcessor.class)
                 .expectingCompilationFailure()
@@ -155,4 +198,59 @@ public final class MemberTypesTest {
                     .ifPresent(type -> TestResources.saveObject(filer, typeElement, type));
         }
     }
+
+    @ProcessorScope
+    public static final class AllMembersTestLiteProcessor extends IsolatingLiteProcessor<TypeElement> {
+
+        private final MemberTypes typeFactory;
+        private final ElementNavigator navigator;
+        private final Filer filer;
+
+        @Inject
+        AllMembersTestLiteProcessor(MemberTypes types, ElementNavigator navigator, Filer filer) {
+            super(Immutable.class);
+            this.typeFactory = types;
+            this.navigator = navigator;
+            this.filer = filer;
+        }
+
+        @Override
+        protected void process(TypeElement typeElement) {
+            List<MemberType> types = navigator
+                    .getMethodsToImplement(typeElement)
+                    .map(methodElement -> typeFactory.create(methodElement.getReturnType(), methodElement))
+                    .flatMap(Optional::stream)
+                    .toList();
+            TestResources.saveObject(filer, typeElement, types);
+        }
+    }
+
+    @ProcessorScope
+    public static final class CachedTestLiteProcessor extends IsolatingLiteProcessor<TypeElement> {
+
+        private final MemberTypes typeFactory;
+        private final ElementNavigator navigator;
+        private final Filer filer;
+
+        @Inject
+        CachedTestLiteProcessor(MemberTypes types, ElementNavigator navigator, Filer filer) {
+            super(Immutable.class);
+            this.typeFactory = types;
+            this.navigator = navigator;
+            this.filer = filer;
+        }
+
+        @Override
+        protected void process(TypeElement typeElement) {
+            // Compare the types as objects, since the same instance should be returned.
+            List<Object> types = navigator
+                    .getMethodsToImplement(typeElement)
+                    .map(methodElement -> typeFactory.create(methodElement.getReturnType(), methodElement))
+                    .flatMap(Optional::stream)
+                    .map(Object.class::cast)
+                    .toList();
+            boolean isCached = (types.size() == 2) && (types.get(0) == types.get(1));
+            TestResources.saveObject(filer, typeElement, isCached);
+        }
+    }
 }
@@ -0,0 +1,66 @@
+package org.example.immutable.processor.test;
+
+import com.google.common.base.Throwables;
+import com.google.testing.compile.Compilation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.JavaFileObject;
+
+/** Loads the classes that were compiled by a {@link Compilation}, so that generated sources can be run. */
+public final class TestClassLoader extends ClassLoader {
+
+    private static final String CLASS_OUTPUT_PREFIX = "/CLASS_OUTPUT/";
+
+    private final Map<String, JavaFileObject> classFiles;
+
+    /** Creates a class loader for the compiled classes. */
+    public static TestClassLoader fromCompilation(Compilation compilation) {
+        Map<String, JavaFileObject> classFiles = compilation.generatedFiles().stream()
+                .filter(file -> file.getKind() == JavaFileObject.Kind.CLASS)
+                .collect(Collectors.toMap(TestClassLoader::getBinaryName, file -> file));
+        return new TestClassLoader(classFiles);
+    }
+
+    /** Invokes a static method without parameters, rethrowing any unchecked exception that the method throws. */
+    public Object invoke(String className, String methodName) throws ReflectiveOperationException {
+        Method method = loadClass(className).getMethod(methodName);
+        try {
+            return method.invoke(null);
+        } catch (InvocationTargetException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        JavaFileObject classFile = classFiles.get(name);
+        if (classFile == null) {
+            throw new ClassNotFoundException(name);
+        }
+
+        try (InputStream stream = classFile.openInputStream()) {
+            byte[] bytes = stream.readAllBytes();
+            return defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
+        }
+    }
+
+    /** Gets the binary name of a class from the path of its class file (e.g., {@code /CLASS_OUTPUT/test/A$B.class}). */
+    private static String getBinaryName(JavaFileObject classFile) {
+        String path = classFile.toUri().getPath();
+        int startIndex = path.indexOf(CLASS_OUTPUT_PREFIX) + CLASS_OUTPUT_PREFIX.length();
+        int endIndex = path.length() - JavaFileObject.Kind.CLASS.extension.length();
+        return path.substring(startIndex, endIndex).replace('/', '.');
+    }
+
+    private TestClassLoader(Map<String, JavaFileObject> classFiles) {
+        super(TestClassLoader.class.getClassLoader());
+        this.classFiles = classFiles;
+    }
+}
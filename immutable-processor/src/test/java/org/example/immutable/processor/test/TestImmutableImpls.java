@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import org.example.immutable.processor.model.ImmutableImpl;
 import org.example.immutable.processor.model.ImmutableMember;
+import org.example.immutable.processor.model.ImmutableOptions;
 import org.example.immutable.processor.model.ImmutableType;
 import org.example.immutable.processor.model.MemberType;
 import org.example.processor.type.ImportableType;
@@ -14,7 +15,13 @@ public final class TestImmutableImpls {
 
     private static final ImmutableImpl RECTANGLE = createRectangle();
     private static final ImmutableImpl COLORED_RECTANGLE = createColoredRectangle();
+    private static final ImmutableImpl POLYGON = createPolygon();
+    private static final ImmutableImpl POINT = createPoint();
+    private static final ImmutableImpl RANGE = createRange();
+    private static final ImmutableImpl ACCOUNT = createAccount();
+    private static final ImmutableImpl PAIR = createPair();
     private static final ImmutableImpl EMPTY = createEmpty();
+    private static final ImmutableImpl EMPTY_BUILDER = createEmptyBuilder();
 
     /** Gets the expected {@link ImmutableImpl} for {@code test/Rectangle.java}. */
     public static ImmutableImpl rectangle() {
@@ -26,11 +33,41 @@ public final class TestImmutableImpls {
         return COLORED_RECTANGLE;
     }
 
+    /** Gets the expected {@link ImmutableImpl} for {@code test/Polygon.java}. */
+    public static ImmutableImpl polygon() {
+        return POLYGON;
+    }
+
+    /** Gets the expected {@link ImmutableImpl} for {@code test/Point.java}. */
+    public static ImmutableImpl point() {
+        return POINT;
+    }
+
+    /** Gets the expected {@link ImmutableImpl} for {@code test/Range.java}. */
+    public static ImmutableImpl range() {
+        return RANGE;
+    }
+
+    /** Gets the expected {@link ImmutableImpl} for {@code test/Account.java}. */
+    public static ImmutableImpl account() {
+        return ACCOUNT;
+    }
+
+    /** Gets the expected {@link ImmutableImpl} for {@code test/Pair.java}. */
+    public static ImmutableImpl pair() {
+        return PAIR;
+    }
+
     /** Gets the expected {@link ImmutableImpl} for {@code test/Empty.java}. */
     public static ImmutableImpl empty() {
         return EMPTY;
     }
 
+    /** Gets the expected {@link ImmutableImpl} for {@code test/EmptyBuilder.java}. */
+    public static ImmutableImpl emptyBuilder() {
+        return EMPTY_BUILDER;
+    }
+
     private static ImmutableImpl createRectangle() {
         ImmutableType type = ImmutableType.of(
                 MemberType.declaredType(ImportableType.of("test.ImmutableRectangle")),
@@ -58,6 +95,82 @@ public final class TestImmutableImpls {
         return ImmutableImpl.of(type, List.of(rectangle, fillColor, edgeColor));
     }
 
+    private static ImmutableImpl createPolygon() {
+        ImmutableType type = ImmutableType.of(
+                MemberType.declaredType(ImportableType.of("test.ImmutablePolygon")),
+                MemberType.declaredType(ImportableType.of("test.Polygon")));
+
+        ImmutableMember name =
+                ImmutableMember.of("name", MemberType.declaredType(ImportableType.ofClass(String.class)));
+        ImmutableMember vertices = ImmutableMember.of(
+                "vertices", MemberType.arrayType(MemberType.arrayType(MemberType.primitiveType("double"))));
+        ImmutableMember tags = ImmutableMember.of(
+                "tags",
+                MemberType.declaredType(
+                        ImportableType.ofClass(List.class),
+                        MemberType.declaredType(ImportableType.ofClass(String.class))));
+        ImmutableMember sides = ImmutableMember.of("sides", MemberType.primitiveType("int"));
+        ImmutableMember opacity = ImmutableMember.of("opacity", MemberType.primitiveType("float"));
+        return ImmutableImpl.of(type, List.of(name, vertices, tags, sides, opacity));
+    }
+
+    private static ImmutableImpl createPoint() {
+        ImmutableType type = ImmutableType.of(
+                MemberType.declaredType(ImportableType.of("test.ImmutablePoint")),
+                MemberType.declaredType(ImportableType.of("test.Point")));
+
+        ImmutableMember x = ImmutableMember.of("x", MemberType.primitiveType("float"));
+        ImmutableMember y = ImmutableMember.of("y", MemberType.primitiveType("double"));
+        ImmutableMember label =
+                ImmutableMember.of("label", MemberType.declaredType(ImportableType.ofClass(String.class)));
+        return ImmutableImpl.of(type, List.of(x, y, label), ImmutableOptions.of(true, false));
+    }
+
+    private static ImmutableImpl createRange() {
+        ImmutableType type = ImmutableType.of(
+                MemberType.declaredType(
+                        ImportableType.of("test.ImmutableRange"),
+                        MemberType.typeParameter(
+                                "T",
+                                MemberType.declaredType(
+                                        ImportableType.ofClass(Comparable.class),
+                                        MemberType.wildcardSuperType(MemberType.typeVariable("T"))))),
+                MemberType.declaredType(ImportableType.of("test.Range"), MemberType.typeVariable("T")));
+
+        ImmutableMember min = ImmutableMember.of("min", MemberType.typeVariable("T"));
+        ImmutableMember max = ImmutableMember.of("max", MemberType.typeVariable("T"));
+        return ImmutableImpl.of(type, List.of(min, max), ImmutableOptions.of(true, false));
+    }
+
+    private static ImmutableImpl createAccount() {
+        ImmutableType type = ImmutableType.of(
+                MemberType.declaredType(ImportableType.of("test.ImmutableAccount")),
+                MemberType.declaredType(ImportableType.of("test.Account")));
+
+        ImmutableMember id = ImmutableMember.of("id", MemberType.primitiveType("long"));
+        ImmutableMember owner =
+                ImmutableMember.of("owner", MemberType.declaredType(ImportableType.ofClass(String.class)));
+        ImmutableMember active = ImmutableMember.of("active", MemberType.primitiveType("boolean"));
+        return ImmutableImpl.of(type, List.of(id, owner, active), ImmutableOptions.of(false, true));
+    }
+
+    private static ImmutableImpl createPair() {
+        ImmutableType type = ImmutableType.of(
+                MemberType.declaredType(
+                        ImportableType.of("test.ImmutablePair"),
+                        MemberType.typeParameter(
+                                "K",
+                                MemberType.declaredType(
+                                        ImportableType.ofClass(Comparable.class), MemberType.typeVariable("K"))),
+                        MemberType.typeParameter("V")),
+                MemberType.declaredType(
+                        ImportableType.of("test.Pair"), MemberType.typeVariable("K"), MemberType.typeVariable("V")));
+
+        ImmutableMember key = ImmutableMember.of("key", MemberType.typeVariable("K"));
+        ImmutableMember value = ImmutableMember.of("value", MemberType.typeVariable("V"));
+        return ImmutableImpl.of(type, List.of(key, value), ImmutableOptions.of(false, true));
+    }
+
     private static ImmutableImpl createEmpty() {
         ImmutableType type = ImmutableType.of(
                 MemberType.declaredType(ImportableType.of("test.ImmutableEmpty")),
@@ -65,6 +178,13 @@ public final class TestImmutableImpls {
         return ImmutableImpl.of(type, List.of());
     }
 
+    private static ImmutableImpl createEmptyBuilder() {
+        ImmutableType type = ImmutableType.of(
+                MemberType.declaredType(ImportableType.of("test.ImmutableEmptyBuilder")),
+                MemberType.declaredType(ImportableType.of("test.EmptyBuilder")));
+        return ImmutableImpl.of(type, List.of(), ImmutableOptions.of(true, true));
+    }
+
     // static class
     private TestImmutableImpls() {}
 }
@@ -12,6 +12,7 @@ import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import org.example.immutable.Immutable;
+import org.example.immutable.processor.ImmutableProcessorModule;
 import org.example.processor.base.AdapterProcessor;
 import org.example.processor.base.LiteProcessor;
 import org.example.processor.base.ProcessorModule;
@@ -59,7 +60,7 @@ final class TestImmutableProcessor extends AdapterProcessor {
         this.liteProcessorClass = liteProcessorClass;
     }
 
-    @Component(modules = {ProcessorModule.class, TestProcessorModule.class})
+    @Component(modules = {ProcessorModule.class, ImmutableProcessorModule.class, TestProcessorModule.class})
     @ProcessorScope
     interface ProcessorComponent {
 
@@ -9,6 +9,7 @@ import dagger.multibindings.IntoMap;
 import java.util.Map;
 import java.util.Objects;
 import javax.annotation.processing.Processor;
+import org.example.immutable.processor.cache.FingerprintsTest;
 import org.example.immutable.processor.modeler.ElementNavigatorTest;
 import org.example.immutable.processor.modeler.ImmutableImplsTest;
 import org.example.immutable.processor.modeler.ImmutableMembersTest;
@@ -48,6 +49,32 @@ interface TestProcessorModule {
      * Add test implementations of LiteProcessor below (in import order).
      */
 
+    @Binds
+    @ProcessorScope
+    @IntoMap
+    @LiteProcessorClassKey(FingerprintsTest.TestLiteProcessor.class)
+    LiteProcessor bindFingerprintsTest_TestLiteProcessor(FingerprintsTest.TestLiteProcessor liteProcessor);
+
+    @Binds
+    @ProcessorScope
+    @IntoMap
+    @LiteProcessorClassKey(FingerprintsTest.MemoizedTestLiteProcessor.class)
+    LiteProcessor bindFingerprintsTest_MemoizedTestLiteProcessor(
+            FingerprintsTest.MemoizedTestLiteProcessor liteProcessor);
+
+    @Binds
+    @ProcessorScope
+    @IntoMap
+    @LiteProcessorClassKey(FingerprintsTest.SaltedTestLiteProcessor.class)
+    LiteProcessor bindFingerprintsTest_SaltedTestLiteProcessor(FingerprintsTest.SaltedTestLiteProcessor liteProcessor);
+
+    @Binds
+    @ProcessorScope
+    @IntoMap
+    @LiteProcessorClassKey(ElementNavigatorTest.ReturnTypesTestLiteProcessor.class)
+    LiteProcessor bindElementNavigatorTest_ReturnTypesTestLiteProcessor(
+            ElementNavigatorTest.ReturnTypesTestLiteProcessor liteProcessor);
+
     @Binds
     @ProcessorScope
     @IntoMap
@@ -72,6 +99,19 @@ interface TestProcessorModule {
     @LiteProcessorClassKey(ImmutableTypesTest.TestLiteProcessor.class)
     LiteProcessor bindImmutableTypesTest_TestLiteProcessor(ImmutableTypesTest.TestLiteProcessor liteProcessor);
 
+    @Binds
+    @ProcessorScope
+    @IntoMap
+    @LiteProcessorClassKey(MemberTypesTest.AllMembersTestLiteProcessor.class)
+    LiteProcessor bindMemberTypesTest_AllMembersTestLiteProcessor(
+            MemberTypesTest.AllMembersTestLiteProcessor liteProcessor);
+
+    @Binds
+    @ProcessorScope
+    @IntoMap
+    @LiteProcessorClassKey(MemberTypesTest.CachedTestLiteProcessor.class)
+    LiteProcessor bindMemberTypesTest_CachedTestLiteProcessor(MemberTypesTest.CachedTestLiteProcessor liteProcessor);
+
     @Binds
     @ProcessorScope
     @IntoMap
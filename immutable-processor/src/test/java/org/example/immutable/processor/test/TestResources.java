@@ -18,7 +18,10 @@ import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
 import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
+import org.example.immutable.processor.cache.ModelCodec;
+import org.example.immutable.processor.model.ImmutableImpl;
 import org.example.processor.type.ImportableType;
+import org.example.processor.type.ImportableTypes;
 
 /**
  * Saves Java objects to JSON resource files during annotation processing, and loads those objects as well.
@@ -42,6 +45,16 @@ public final class TestResources {
         assertThat(deserializedT).isEqualTo(t);
     }
 
+    /**
+     * Test template that serializes and deserializes an {@link ImmutableImpl} via both JSON and {@link ModelCodec},
+     * verifying that each deserialized {@link ImmutableImpl} is equal to the original {@link ImmutableImpl}.
+     */
+    public static void serializeAndDeserialize(ImmutableImpl impl) throws IOException {
+        serializeAndDeserialize(impl, new TypeReference<>() {});
+        ImmutableImpl decodedImpl = ModelCodec.decodeImpl(ModelCodec.encode(impl), new ImportableTypes());
+        assertThat(decodedImpl).isEqualTo(impl);
+    }
+
     /**
      * Saves a corresponding object for the type to a resource file during annotation processing.
      *
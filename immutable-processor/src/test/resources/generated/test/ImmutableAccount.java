@@ -0,0 +1,139 @@
+package test;
+
+import java.util.Objects;
+import javax.annotation.processing.Generated;
+
+@Generated("org.example.immutable.processor.ImmutableProcessor")
+class ImmutableAccount implements Account {
+
+    private final long id;
+    private final String owner;
+    private final boolean active;
+    private int hashCode$;
+
+    ImmutableAccount(long id, String owner, boolean active) {
+        this.id = id;
+        this.owner = owner;
+        this.active = active;
+    }
+
+    @Override
+    public long id() {
+        return id;
+    }
+
+    @Override
+    public String owner() {
+        return owner;
+    }
+
+    @Override
+    public boolean active() {
+        return active;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutableAccount other = (ImmutableAccount) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return (this.id == other.id)
+                && (this.active == other.active)
+                && Objects.equals(this.owner, other.owner);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Long.hashCode(this.id);
+            hashCode = 31 * hashCode + Objects.hashCode(this.owner);
+            hashCode = 31 * hashCode + Boolean.hashCode(this.active);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(70)
+                .append("Account{id=")
+                .append(this.id)
+                .append(", owner=")
+                .append(this.owner)
+                .append(", active=")
+                .append(this.active)
+                .append('}')
+                .toString();
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    static final class Builder {
+
+        private long id;
+        private String owner;
+        private boolean active;
+        private long setBits$0;
+
+        public Builder id(long id) {
+            this.id = id;
+            setBits$0 |= 0x1L;
+            return this;
+        }
+
+        public Builder owner(String owner) {
+            this.owner = owner;
+            setBits$0 |= 0x2L;
+            return this;
+        }
+
+        public Builder active(boolean active) {
+            this.active = active;
+            setBits$0 |= 0x4L;
+            return this;
+        }
+
+        public ImmutableAccount build() {
+            if (setBits$0 != 0x7L) {
+                throw new IllegalStateException(getMissingMembersMessage());
+            }
+
+            return new ImmutableAccount(this.id, this.owner, this.active);
+        }
+
+        public Builder clear() {
+            this.id = 0;
+            this.owner = null;
+            this.active = false;
+            setBits$0 = 0L;
+            return this;
+        }
+
+        private String getMissingMembersMessage() {
+            StringBuilder message = new StringBuilder("members not set:");
+            if ((setBits$0 & 0x1L) == 0L) {
+                message.append(" id");
+            }
+            if ((setBits$0 & 0x2L) == 0L) {
+                message.append(" owner");
+            }
+            if ((setBits$0 & 0x4L) == 0L) {
+                message.append(" active");
+            }
+            return message.toString();
+        }
+    }
+}
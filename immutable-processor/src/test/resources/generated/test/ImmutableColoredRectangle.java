@@ -1,6 +1,7 @@
 package test;
 
 import java.awt.Color;
+import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.processing.Generated;
 
@@ -10,6 +11,7 @@ class ImmutableColoredRectangle implements ColoredRectangle {
     private final Rectangle rectangle;
     private final Color fillColor;
     private final Optional<Color> edgeColor;
+    private int hashCode$;
 
     ImmutableColoredRectangle(Rectangle rectangle, Color fillColor, Optional<Color> edgeColor) {
         this.rectangle = rectangle;
@@ -31,4 +33,49 @@ class ImmutableColoredRectangle implements ColoredRectangle {
     public Optional<Color> edgeColor() {
         return edgeColor;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutableColoredRectangle other = (ImmutableColoredRectangle) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return Objects.equals(this.rectangle, other.rectangle)
+                && Objects.equals(this.fillColor, other.fillColor)
+                && Objects.equals(this.edgeColor, other.edgeColor);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Objects.hashCode(this.rectangle);
+            hashCode = 31 * hashCode + Objects.hashCode(this.fillColor);
+            hashCode = 31 * hashCode + Objects.hashCode(this.edgeColor);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(100)
+                .append("ColoredRectangle{rectangle=")
+                .append(this.rectangle)
+                .append(", fillColor=")
+                .append(this.fillColor)
+                .append(", edgeColor=")
+                .append(this.edgeColor)
+                .append('}')
+                .toString();
+    }
 }
@@ -0,0 +1,68 @@
+package test;
+
+import java.util.Objects;
+import javax.annotation.processing.Generated;
+
+@Generated("org.example.immutable.processor.ImmutableProcessor")
+class ImmutableConflictingObject implements ConflictingObject {
+
+    private final test.conflict.Object object;
+    private final int x;
+    private int hashCode$;
+
+    ImmutableConflictingObject(test.conflict.Object object, int x) {
+        this.object = object;
+        this.x = x;
+    }
+
+    @Override
+    public test.conflict.Object object() {
+        return object;
+    }
+
+    @Override
+    public int x() {
+        return x;
+    }
+
+    @Override
+    public boolean equals(java.lang.Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutableConflictingObject other = (ImmutableConflictingObject) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return (this.x == other.x)
+                && Objects.equals(this.object, other.object);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Objects.hashCode(this.object);
+            hashCode = 31 * hashCode + Integer.hashCode(this.x);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(57)
+                .append("ConflictingObject{object=")
+                .append(this.object)
+                .append(", x=")
+                .append(this.x)
+                .append('}')
+                .toString();
+    }
+}
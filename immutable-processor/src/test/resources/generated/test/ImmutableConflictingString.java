@@ -0,0 +1,68 @@
+package test;
+
+import java.util.Objects;
+import javax.annotation.processing.Generated;
+
+@Generated("org.example.immutable.processor.ImmutableProcessor")
+class ImmutableConflictingString implements ConflictingString {
+
+    private final test.conflict.String string;
+    private final int x;
+    private int hashCode$;
+
+    ImmutableConflictingString(test.conflict.String string, int x) {
+        this.string = string;
+        this.x = x;
+    }
+
+    @Override
+    public test.conflict.String string() {
+        return string;
+    }
+
+    @Override
+    public int x() {
+        return x;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutableConflictingString other = (ImmutableConflictingString) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return (this.x == other.x)
+                && Objects.equals(this.string, other.string);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Objects.hashCode(this.string);
+            hashCode = 31 * hashCode + Integer.hashCode(this.x);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public java.lang.String toString() {
+        return new StringBuilder(57)
+                .append("ConflictingString{string=")
+                .append(this.string)
+                .append(", x=")
+                .append(this.x)
+                .append('}')
+                .toString();
+    }
+}
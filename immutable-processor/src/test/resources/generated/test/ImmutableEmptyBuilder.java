@@ -0,0 +1,22 @@
+package test;
+
+import javax.annotation.processing.Generated;
+
+@Generated("org.example.immutable.processor.ImmutableProcessor")
+class ImmutableEmptyBuilder implements EmptyBuilder {
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    static final class Builder {
+
+        public ImmutableEmptyBuilder build() {
+            return new ImmutableEmptyBuilder();
+        }
+
+        public Builder clear() {
+            return this;
+        }
+    }
+}
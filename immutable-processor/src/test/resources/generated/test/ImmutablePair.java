@@ -0,0 +1,117 @@
+package test;
+
+import java.util.Objects;
+import javax.annotation.processing.Generated;
+
+@Generated("org.example.immutable.processor.ImmutableProcessor")
+class ImmutablePair<K extends Comparable<K>, V> implements Pair<K, V> {
+
+    private final K key;
+    private final V value;
+    private int hashCode$;
+
+    ImmutablePair(K key, V value) {
+        this.key = key;
+        this.value = value;
+    }
+
+    @Override
+    public K key() {
+        return key;
+    }
+
+    @Override
+    public V value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutablePair<?, ?> other = (ImmutablePair<?, ?>) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return Objects.equals(this.key, other.key)
+                && Objects.equals(this.value, other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Objects.hashCode(this.key);
+            hashCode = 31 * hashCode + Objects.hashCode(this.value);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(50)
+                .append("Pair{key=")
+                .append(this.key)
+                .append(", value=")
+                .append(this.value)
+                .append('}')
+                .toString();
+    }
+
+    static <K extends Comparable<K>, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    static final class Builder<K extends Comparable<K>, V> {
+
+        private K key;
+        private V value;
+        private long setBits$0;
+
+        public Builder<K, V> key(K key) {
+            this.key = key;
+            setBits$0 |= 0x1L;
+            return this;
+        }
+
+        public Builder<K, V> value(V value) {
+            this.value = value;
+            setBits$0 |= 0x2L;
+            return this;
+        }
+
+        public ImmutablePair<K, V> build() {
+            if (setBits$0 != 0x3L) {
+                throw new IllegalStateException(getMissingMembersMessage());
+            }
+
+            return new ImmutablePair<>(this.key, this.value);
+        }
+
+        public Builder<K, V> clear() {
+            this.key = null;
+            this.value = null;
+            setBits$0 = 0L;
+            return this;
+        }
+
+        private String getMissingMembersMessage() {
+            StringBuilder message = new StringBuilder("members not set:");
+            if ((setBits$0 & 0x1L) == 0L) {
+                message.append(" key");
+            }
+            if ((setBits$0 & 0x2L) == 0L) {
+                message.append(" value");
+            }
+            return message.toString();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package test;
+
+import java.util.Objects;
+import javax.annotation.processing.Generated;
+
+@Generated("org.example.immutable.processor.ImmutableProcessor")
+class ImmutablePoint implements Point {
+
+    private final float x;
+    private final double y;
+    private final String label;
+    private int hashCode$;
+
+    ImmutablePoint(float x, double y, String label) {
+        this.x = x;
+        this.y = y;
+        this.label = label;
+    }
+
+    @Override
+    public float x() {
+        return x;
+    }
+
+    @Override
+    public double y() {
+        return y;
+    }
+
+    @Override
+    public String label() {
+        return label;
+    }
+
+    public ImmutablePoint withX(float x) {
+        if (Float.floatToRawIntBits(this.x) == Float.floatToRawIntBits(x)) {
+            return this;
+        }
+
+        return new ImmutablePoint(x, this.y, this.label);
+    }
+
+    public ImmutablePoint withY(double y) {
+        if (Double.doubleToRawLongBits(this.y) == Double.doubleToRawLongBits(y)) {
+            return this;
+        }
+
+        return new ImmutablePoint(this.x, y, this.label);
+    }
+
+    public ImmutablePoint withLabel(String label) {
+        if (this.label == label) {
+            return this;
+        }
+
+        return new ImmutablePoint(this.x, this.y, label);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutablePoint other = (ImmutablePoint) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return (Float.compare(this.x, other.x) == 0)
+                && (Double.compare(this.y, other.y) == 0)
+                && Objects.equals(this.label, other.label);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Float.hashCode(this.x);
+            hashCode = 31 * hashCode + Double.hashCode(this.y);
+            hashCode = 31 * hashCode + Objects.hashCode(this.label);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(76)
+                .append("Point{x=")
+                .append(this.x)
+                .append(", y=")
+                .append(this.y)
+                .append(", label=")
+                .append(this.label)
+                .append('}')
+                .toString();
+    }
+}
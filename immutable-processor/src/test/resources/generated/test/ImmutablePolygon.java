@@ -0,0 +1,103 @@
+package test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.processing.Generated;
+
+@Generated("org.example.immutable.processor.ImmutableProcessor")
+class ImmutablePolygon implements Polygon {
+
+    private final String name;
+    private final double[][] vertices;
+    private final List<String> tags;
+    private final int sides;
+    private final float opacity;
+    private int hashCode$;
+
+    ImmutablePolygon(String name, double[][] vertices, List<String> tags, int sides, float opacity) {
+        this.name = name;
+        this.vertices = vertices;
+        this.tags = tags;
+        this.sides = sides;
+        this.opacity = opacity;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public double[][] vertices() {
+        return vertices;
+    }
+
+    @Override
+    public List<String> tags() {
+        return tags;
+    }
+
+    @Override
+    public int sides() {
+        return sides;
+    }
+
+    @Override
+    public float opacity() {
+        return opacity;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutablePolygon other = (ImmutablePolygon) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return (this.sides == other.sides)
+                && (Float.compare(this.opacity, other.opacity) == 0)
+                && Objects.equals(this.name, other.name)
+                && Objects.equals(this.tags, other.tags)
+                && Arrays.deepEquals(this.vertices, other.vertices);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Objects.hashCode(this.name);
+            hashCode = 31 * hashCode + Arrays.deepHashCode(this.vertices);
+            hashCode = 31 * hashCode + Objects.hashCode(this.tags);
+            hashCode = 31 * hashCode + Integer.hashCode(this.sides);
+            hashCode = 31 * hashCode + Float.hashCode(this.opacity);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(140)
+                .append("Polygon{name=")
+                .append(this.name)
+                .append(", vertices=")
+                .append(Arrays.deepToString(this.vertices))
+                .append(", tags=")
+                .append(this.tags)
+                .append(", sides=")
+                .append(this.sides)
+                .append(", opacity=")
+                .append(this.opacity)
+                .append('}')
+                .toString();
+    }
+}
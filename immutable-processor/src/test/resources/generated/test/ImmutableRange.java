@@ -0,0 +1,84 @@
+package test;
+
+import java.util.Objects;
+import javax.annotation.processing.Generated;
+
+@Generated("org.example.immutable.processor.ImmutableProcessor")
+class ImmutableRange<T extends Comparable<? super T>> implements Range<T> {
+
+    private final T min;
+    private final T max;
+    private int hashCode$;
+
+    ImmutableRange(T min, T max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public T min() {
+        return min;
+    }
+
+    @Override
+    public T max() {
+        return max;
+    }
+
+    public ImmutableRange<T> withMin(T min) {
+        if (this.min == min) {
+            return this;
+        }
+
+        return new ImmutableRange<>(min, this.max);
+    }
+
+    public ImmutableRange<T> withMax(T max) {
+        if (this.max == max) {
+            return this;
+        }
+
+        return new ImmutableRange<>(this.min, max);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutableRange<?> other = (ImmutableRange<?>) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return Objects.equals(this.min, other.min)
+                && Objects.equals(this.max, other.max);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Objects.hashCode(this.min);
+            hashCode = 31 * hashCode + Objects.hashCode(this.max);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(49)
+                .append("Range{min=")
+                .append(this.min)
+                .append(", max=")
+                .append(this.max)
+                .append('}')
+                .toString();
+    }
+}
@@ -7,6 +7,7 @@ class ImmutableRectangle implements Rectangle {
 
     private final double width;
     private final double height;
+    private int hashCode$;
 
     ImmutableRectangle(double width, double height) {
         this.width = width;
@@ -22,4 +23,45 @@ class ImmutableRectangle implements Rectangle {
     public double height() {
         return height;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if ((obj == null) || (obj.getClass() != getClass())) {
+            return false;
+        }
+
+        ImmutableRectangle other = (ImmutableRectangle) obj;
+        if ((hashCode$ != 0) && (other.hashCode$ != 0) && (hashCode$ != other.hashCode$)) {
+            return false;
+        }
+
+        return (Double.compare(this.width, other.width) == 0)
+                && (Double.compare(this.height, other.height) == 0);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = hashCode$;
+        if (hashCode == 0) {
+            hashCode = Double.hashCode(this.width);
+            hashCode = 31 * hashCode + Double.hashCode(this.height);
+            hashCode$ = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new StringBuilder(74)
+                .append("Rectangle{width=")
+                .append(this.width)
+                .append(", height=")
+                .append(this.height)
+                .append('}')
+                .toString();
+    }
 }
@@ -0,0 +1,13 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable(builder = true)
+public interface Account {
+
+    long id();
+
+    String owner();
+
+    boolean active();
+}
@@ -0,0 +1,11 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface ConflictingObject {
+
+    test.conflict.Object object();
+
+    int x();
+}
@@ -0,0 +1,11 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface ConflictingString {
+
+    test.conflict.String string();
+
+    int x();
+}
@@ -0,0 +1,11 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable(builder = true, withers = true)
+public interface EmptyBuilder {
+
+    static EmptyBuilder of() {
+        return null; // Not implemented for testing purposes.
+    }
+}
@@ -0,0 +1,43 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface InterfaceHierarchy extends Named, Sized {
+
+    @Override
+    int id();
+}
+
+interface Base {
+
+    static Base empty() {
+        return null; // Not implemented for testing purposes.
+    }
+
+    int id();
+
+    Object value();
+
+    default int version() {
+        return 1;
+    }
+}
+
+interface Named extends Base {
+
+    String name();
+
+    @Override
+    String value();
+
+    @Override
+    int version();
+}
+
+interface Sized {
+
+    int size();
+
+    String name();
+}
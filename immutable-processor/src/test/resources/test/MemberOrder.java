@@ -0,0 +1,24 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface MemberOrder extends Second, First {
+
+    int own();
+}
+
+interface Second extends Root {
+
+    int second();
+}
+
+interface First {
+
+    int first();
+}
+
+interface Root {
+
+    int root();
+}
@@ -0,0 +1,26 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface MostSpecificReturnType extends GeneralName, SpecificName, SpecificValue, GeneralValue {}
+
+interface GeneralName {
+
+    CharSequence name();
+}
+
+interface SpecificName {
+
+    String name();
+}
+
+interface SpecificValue {
+
+    String value();
+}
+
+interface GeneralValue {
+
+    CharSequence value();
+}
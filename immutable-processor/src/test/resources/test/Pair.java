@@ -0,0 +1,11 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable(builder = true)
+public interface Pair<K extends Comparable<K>, V> {
+
+    K key();
+
+    V value();
+}
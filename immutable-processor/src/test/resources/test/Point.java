@@ -0,0 +1,17 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable(withers = true)
+public interface Point {
+
+    static Point of(float x, double y, String label) {
+        return null; // Not implemented for testing purposes.
+    }
+
+    float x();
+
+    double y();
+
+    String label();
+}
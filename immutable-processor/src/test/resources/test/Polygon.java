@@ -0,0 +1,18 @@
+package test;
+
+import java.util.List;
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface Polygon {
+
+    String name();
+
+    double[][] vertices();
+
+    List<String> tags();
+
+    int sides();
+
+    float opacity();
+}
@@ -0,0 +1,11 @@
+package test;
+
+import org.example.immutable.Immutable;
+
+@Immutable(withers = true)
+public interface Range<T extends Comparable<? super T>> {
+
+    T min();
+
+    T max();
+}
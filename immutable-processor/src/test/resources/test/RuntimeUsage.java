@@ -0,0 +1,259 @@
+package test;
+
+/** Uses the generated implementations at runtime. */
+public final class RuntimeUsage {
+
+    public static Account buildAccount() {
+        return ImmutableAccount.builder().id(1L).owner("owner").active(true).build();
+    }
+
+    public static Account buildAccount_MissingMember() {
+        return ImmutableAccount.builder().id(1L).active(true).build();
+    }
+
+    public static Account buildAccount_Cleared() {
+        return ImmutableAccount.builder()
+                .id(1L)
+                .owner("owner")
+                .active(true)
+                .clear()
+                .build();
+    }
+
+    public static Account buildAccount_Reused() {
+        ImmutableAccount.Builder builder = ImmutableAccount.builder();
+        builder.id(1L).owner("owner").active(true).build();
+        builder.clear();
+        return builder.id(2L).owner("other owner").active(false).build();
+    }
+
+    public static Pair<String, Integer> buildPair() {
+        return ImmutablePair.<String, Integer>builder().key("key").value(1).build();
+    }
+
+    public static EmptyBuilder buildEmptyBuilder() {
+        return ImmutableEmptyBuilder.builder().clear().build();
+    }
+
+    public static Wide buildWide() {
+        return ImmutableWide.builder()
+                .m00(0)
+                .m01(1)
+                .m02(2)
+                .m03(3)
+                .m04(4)
+                .m05(5)
+                .m06(6)
+                .m07(7)
+                .m08(8)
+                .m09(9)
+                .m10(10)
+                .m11(11)
+                .m12(12)
+                .m13(13)
+                .m14(14)
+                .m15(15)
+                .m16(16)
+                .m17(17)
+                .m18(18)
+                .m19(19)
+                .m20(20)
+                .m21(21)
+                .m22(22)
+                .m23(23)
+                .m24(24)
+                .m25(25)
+                .m26(26)
+                .m27(27)
+                .m28(28)
+                .m29(29)
+                .m30(30)
+                .m31(31)
+                .m32(32)
+                .m33(33)
+                .m34(34)
+                .m35(35)
+                .m36(36)
+                .m37(37)
+                .m38(38)
+                .m39(39)
+                .m40(40)
+                .m41(41)
+                .m42(42)
+                .m43(43)
+                .m44(44)
+                .m45(45)
+                .m46(46)
+                .m47(47)
+                .m48(48)
+                .m49(49)
+                .m50(50)
+                .m51(51)
+                .m52(52)
+                .m53(53)
+                .m54(54)
+                .m55(55)
+                .m56(56)
+                .m57(57)
+                .m58(58)
+                .m59(59)
+                .m60(60)
+                .m61(61)
+                .m62(62)
+                .m63(63)
+                .m64(64)
+                .build();
+    }
+
+    public static Wide buildWide_MissingFirstMember() {
+        return ImmutableWide.builder()
+                .m01(1)
+                .m02(2)
+                .m03(3)
+                .m04(4)
+                .m05(5)
+                .m06(6)
+                .m07(7)
+                .m08(8)
+                .m09(9)
+                .m10(10)
+                .m11(11)
+                .m12(12)
+                .m13(13)
+                .m14(14)
+                .m15(15)
+                .m16(16)
+                .m17(17)
+                .m18(18)
+                .m19(19)
+                .m20(20)
+                .m21(21)
+                .m22(22)
+                .m23(23)
+                .m24(24)
+                .m25(25)
+                .m26(26)
+                .m27(27)
+                .m28(28)
+                .m29(29)
+                .m30(30)
+                .m31(31)
+                .m32(32)
+                .m33(33)
+                .m34(34)
+                .m35(35)
+                .m36(36)
+                .m37(37)
+                .m38(38)
+                .m39(39)
+                .m40(40)
+                .m41(41)
+                .m42(42)
+                .m43(43)
+                .m44(44)
+                .m45(45)
+                .m46(46)
+                .m47(47)
+                .m48(48)
+                .m49(49)
+                .m50(50)
+                .m51(51)
+                .m52(52)
+                .m53(53)
+                .m54(54)
+                .m55(55)
+                .m56(56)
+                .m57(57)
+                .m58(58)
+                .m59(59)
+                .m60(60)
+                .m61(61)
+                .m62(62)
+                .m63(63)
+                .m64(64)
+                .build();
+    }
+
+    public static Wide buildWide_MissingLastMember() {
+        return ImmutableWide.builder()
+                .m00(0)
+                .m01(1)
+                .m02(2)
+                .m03(3)
+                .m04(4)
+                .m05(5)
+                .m06(6)
+                .m07(7)
+                .m08(8)
+                .m09(9)
+                .m10(10)
+                .m11(11)
+                .m12(12)
+                .m13(13)
+                .m14(14)
+                .m15(15)
+                .m16(16)
+                .m17(17)
+                .m18(18)
+                .m19(19)
+                .m20(20)
+                .m21(21)
+                .m22(22)
+                .m23(23)
+                .m24(24)
+                .m25(25)
+                .m26(26)
+                .m27(27)
+                .m28(28)
+                .m29(29)
+                .m30(30)
+                .m31(31)
+                .m32(32)
+                .m33(33)
+                .m34(34)
+                .m35(35)
+                .m36(36)
+                .m37(37)
+                .m38(38)
+                .m39(39)
+                .m40(40)
+                .m41(41)
+                .m42(42)
+                .m43(43)
+                .m44(44)
+                .m45(45)
+                .m46(46)
+                .m47(47)
+                .m48(48)
+                .m49(49)
+                .m50(50)
+                .m51(51)
+                .m52(52)
+                .m53(53)
+                .m54(54)
+                .m55(55)
+                .m56(56)
+                .m57(57)
+                .m58(58)
+                .m59(59)
+                .m60(60)
+                .m61(61)
+                .m62(62)
+                .m63(63)
+                .build();
+    }
+
+    public static boolean withPoint_Unchanged() {
+        String label = "label";
+        ImmutablePoint point = new ImmutablePoint(1.0f, 0.0, label);
+        return (point.withX(1.0f) == point) && (point.withY(0.0) == point) && (point.withLabel(label) == point);
+    }
+
+    public static Point withPoint_Changed() {
+        ImmutablePoint point = new ImmutablePoint(1.0f, 0.0, "label");
+        return point.withY(-0.0);
+    }
+
+    // static class
+    private RuntimeUsage() {}
+}
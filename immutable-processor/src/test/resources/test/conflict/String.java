@@ -0,0 +1,3 @@
+package test.conflict;
+
+public final class String {}
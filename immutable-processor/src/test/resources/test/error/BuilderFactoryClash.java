@@ -0,0 +1,11 @@
+package test.error;
+
+import org.example.immutable.Immutable;
+
+@Immutable(builder = true)
+public interface BuilderFactoryClash {
+
+    int builder();
+
+    int value();
+}
@@ -0,0 +1,18 @@
+package test.method;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface ObjectMethods {
+
+    int member();
+
+    @Override
+    boolean equals(Object obj);
+
+    @Override
+    int hashCode();
+
+    @Override
+    String toString();
+}
@@ -0,0 +1,11 @@
+package test.method;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface TypeDeclaredRepeated {
+
+    String member1();
+
+    String member2();
+}
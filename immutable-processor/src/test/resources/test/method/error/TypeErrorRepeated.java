@@ -0,0 +1,11 @@
+package test.method.error;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface TypeErrorRepeated {
+
+    ImmutableTypeError member1();
+
+    ImmutableTypeError member2();
+}
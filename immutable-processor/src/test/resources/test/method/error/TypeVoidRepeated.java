@@ -0,0 +1,11 @@
+package test.method.error;
+
+import org.example.immutable.Immutable;
+
+@Immutable
+public interface TypeVoidRepeated {
+
+    void member1();
+
+    void member2();
+}
@@ -34,6 +34,11 @@ public abstract class AdapterProcessor implements Processor {
 
     @Override
     public final boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            processingOver();
+            return false;
+        }
+
         if (annotations.isEmpty()) {
             return false;
         }
@@ -47,6 +52,16 @@ public abstract class AdapterProcessor implements Processor {
         return false;
     }
 
+    /** Notifies the {@link LiteProcessor} that processing is over. */
+    private void processingOver() {
+        try {
+            liteProcessor.processingOver();
+        } catch (Exception e) {
+            String message = createUncaughtExceptionMessage(e);
+            messager.printMessage(Diagnostic.Kind.ERROR, message);
+        }
+    }
+
     /** Create the error message for an uncaught exception. */
     private String createUncaughtExceptionMessage(Exception e) {
         StringWriter messageWriter = new StringWriter();
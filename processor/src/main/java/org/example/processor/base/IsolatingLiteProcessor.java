@@ -2,6 +2,7 @@ package org.example.processor.base;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Target;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.processing.RoundEnvironment;
@@ -11,7 +12,8 @@ import javax.lang.model.element.TypeElement;
 /**
  * Isolating {@link LiteProcessor} where each output is generated from a single input.
  *
- * <p>It contains a single abstract method, {@link #process(Element)}, which processes a single annotated element.</p>
+ * <p>It contains a single abstract method, {@link #process(Element)}, which processes a single annotated element.
+ * Subclasses may also override {@link #process(List)} to process all the annotated elements in a round together.</p>
  *
  * <p>It is assumed that the type parameter {@code E} corresponds to the the {@link Target} for the annotation.
  * E.g., if {@code E} is a {@link TypeElement}, the annotation is annotated with {@code @Target(ElementType.TYPE)}.</p>
@@ -35,14 +37,34 @@ public abstract class IsolatingLiteProcessor<E extends Element> implements LiteP
         TypeElement annotationToProcess = maybeAnnotationToProcess.get();
 
         Set<? extends Element> annotatedElements = roundEnv.getElementsAnnotatedWith(annotationToProcess);
-        for (Element annotatedElement : annotatedElements) {
-            process((E) annotatedElement);
+        List<E> typedAnnotatedElements =
+                annotatedElements.stream().map(element -> (E) element).toList();
+        try {
+            process(typedAnnotatedElements);
+        } finally {
+            endRound();
         }
     }
 
     /** Processes a single annotated element. */
     protected abstract void process(E annotatedElement) throws Exception;
 
+    /** Processes all the annotated elements in a round; by default, each element is processed one at a time. */
+    protected void process(List<E> annotatedElements) throws Exception {
+        for (E annotatedElement : annotatedElements) {
+            process(annotatedElement);
+        }
+    }
+
+    /**
+     * Ends a round in which annotated elements were processed, releasing any state that is bounded to the round;
+     * by default, it does nothing.
+     *
+     * <p>The {@code javax.lang.model} API may create new elements in each round,
+     * so caches of elements should not be retained across rounds.</p>
+     */
+    protected void endRound() {}
+
     /** Finds the annotation to process, or empty. */
     private Optional<TypeElement> findAnnotationToProcess(Set<? extends TypeElement> annotations) {
         return annotations.stream()
@@ -22,4 +22,7 @@ public interface LiteProcessor {
      * </ol>
      */
     void process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) throws Exception;
+
+    /** Called after the final round of processing, e.g., to write a report; by default, it does nothing. */
+    default void processingOver() throws Exception {}
 }
@@ -0,0 +1,171 @@
+package org.example.processor.base;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.QualifiedNameable;
+import org.example.processor.source.IsolatingSourceFileGenerator;
+import org.example.processor.stats.ProcessorStats;
+
+/**
+ * {@link IsolatingLiteProcessor} that processes all the annotated elements in a round as a batch,
+ * rendering source files in parallel.
+ *
+ * <p>The batch is processed in four phases:</p>
+ *
+ * <ol>
+ *     <li>An object model is created from each element via {@link #createModel(Element)}, on the compiler thread.
+ *     The {@code javax.lang.model} API is not thread-safe, so the model must not reference any elements or types.</li>
+ *     <li>All the models are prepared together via {@link #prepareModels(List)}, on the compiler thread.
+ *     This allows work that is shared between models to be done once.</li>
+ *     <li>The source code is rendered from each model via {@link #renderSource(Object)}, on the {@link Executor}.
+ *     By default, it is rendered via {@link IsolatingSourceFileGenerator#renderSource(Object)}.
+ *     The source generator must be thread-safe.</li>
+ *     <li>The source files are written via the {@link javax.annotation.processing.Filer}, on the compiler thread.
+ *     Source files are written in the same order as the annotated elements.
+ *     After each source file is written, {@link #sourceFileWritten(Element, Object, CharSequence)} is invoked.</li>
+ * </ol>
+ *
+ * <p>The phases are recorded via {@link ProcessorStats}: {@code model}, {@code prepare}, {@code render},
+ * and {@code write}. The report is written after the final round.</p>
+ */
+public abstract class ParallelIsolatingLiteProcessor<E extends Element, M> extends IsolatingLiteProcessor<E> {
+
+    private final IsolatingSourceFileGenerator<M, E> generator;
+    private final Executor executor;
+    private final ProcessorStats stats;
+
+    /** Creates a {@link ParallelIsolatingLiteProcessor} for the provided annotation, without recording stats. */
+    protected ParallelIsolatingLiteProcessor(
+            Class<? extends Annotation> targetAnnotation,
+            IsolatingSourceFileGenerator<M, E> generator,
+            Executor executor) {
+        this(targetAnnotation, generator, executor, ProcessorStats.disabled());
+    }
+
+    /** Creates a {@link ParallelIsolatingLiteProcessor} for the provided annotation. */
+    protected ParallelIsolatingLiteProcessor(
+            Class<? extends Annotation> targetAnnotation,
+            IsolatingSourceFileGenerator<M, E> generator,
+            Executor executor,
+            ProcessorStats stats) {
+        super(targetAnnotation);
+        this.generator = generator;
+        this.executor = executor;
+        this.stats = stats;
+    }
+
+    @Override
+    protected final void process(E annotatedElement) throws Exception {
+        process(List.of(annotatedElement));
+    }
+
+    @Override
+    protected final void process(List<E> annotatedElements) throws Exception {
+        stats.startRound();
+        List<ModeledElement<E, M>> modeledElements = createModels(annotatedElements);
+        List<M> models = modeledElements.stream().map(ModeledElement::model).toList();
+        try (ProcessorStats.Span span = stats.start("prepare")) {
+            prepareModels(models);
+        }
+        List<CompletableFuture<CharSequence>> sources = renderSources(modeledElements);
+        writeSourceFiles(modeledElements, sources);
+    }
+
+    @Override
+    public void processingOver() throws Exception {
+        stats.writeReport();
+    }
+
+    /** Creates the object model from the annotated element, or returns empty if an error occurs. */
+    protected abstract Optional<M> createModel(E annotatedElement) throws Exception;
+
+    /** Prepares all the models in the batch before their source code is rendered; by default, it does nothing. */
+    protected void prepareModels(List<M> models) throws Exception {}
+
+    /** Renders the source code for a model, on the {@link Executor}; overrides must also be thread-safe. */
+    protected CharSequence renderSource(M model) {
+        return generator.renderSource(model);
+    }
+
+    /** Handles a source file after it is written, on the compiler thread; by default, it does nothing. */
+    protected void sourceFileWritten(E annotatedElement, M model, CharSequence source) throws Exception {}
+
+    /** Waits for an asynchronous result, rethrowing the original exception if the computation failed. */
+    protected static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /** Creates the object models for the annotated elements, skipping elements whose model had an error. */
+    private List<ModeledElement<E, M>> createModels(List<E> annotatedElements) throws Exception {
+        List<ModeledElement<E, M>> modeledElements = new ArrayList<>(annotatedElements.size());
+        for (E annotatedElement : annotatedElements) {
+            String elementName = stats.isEnabled() ? getElementName(annotatedElement) : null;
+            Optional<M> maybeModel;
+            try (ProcessorStats.Span span = stats.start("model", elementName)) {
+                maybeModel = createModel(annotatedElement);
+            }
+            if (maybeModel.isEmpty()) {
+                continue;
+            }
+            M model = maybeModel.get();
+            modeledElements.add(new ModeledElement<>(annotatedElement, elementName, model));
+        }
+        return modeledElements;
+    }
+
+    /** Starts rendering the source code for each object model. */
+    private List<CompletableFuture<CharSequence>> renderSources(List<ModeledElement<E, M>> modeledElements) {
+        return modeledElements.stream()
+                .map(modeledElement -> CompletableFuture.supplyAsync(() -> render(modeledElement), executor))
+                .toList();
+    }
+
+    /** Renders the source code for an object model, recording the phase. */
+    private CharSequence render(ModeledElement<E, M> modeledElement) {
+        try (ProcessorStats.Span span = stats.start("render", modeledElement.elementName())) {
+            return renderSource(modeledElement.model());
+        }
+    }
+
+    /** Writes the source files in order, waiting for the source code of each file to be rendered. */
+    private void writeSourceFiles(
+            List<ModeledElement<E, M>> modeledElements, List<CompletableFuture<CharSequence>> sources)
+            throws Exception {
+        for (int i = 0; i < modeledElements.size(); i++) {
+            ModeledElement<E, M> modeledElement = modeledElements.get(i);
+            CharSequence source = await(sources.get(i));
+            try (ProcessorStats.Span span = stats.start("write", modeledElement.elementName())) {
+                generator.writeSourceFile(modeledElement.model(), source, modeledElement.originatingElement());
+            }
+            sourceFileWritten(modeledElement.originatingElement(), modeledElement.model(), source);
+        }
+    }
+
+    /** Gets the name of an element for stats, which is the qualified name if the element has one. */
+    private static String getElementName(Element element) {
+        return (element instanceof QualifiedNameable qualifiedElement)
+                ? qualifiedElement.getQualifiedName().toString()
+                : element.toString();
+    }
+
+    /** Object model that was created from an annotated element. */
+    @SuppressWarnings("UnusedVariable") // false positive for Error Prone
+    private record ModeledElement<E, M>(E originatingElement, String elementName, M model) {}
+}
@@ -1,8 +1,8 @@
 package org.example.processor.imports;
 
-import java.io.PrintWriter;
 import java.util.List;
 import org.example.processor.source.SourceGenerator;
+import org.example.processor.source.SourceWriter;
 import org.example.processor.type.ImportableType;
 
 /**
@@ -20,7 +20,7 @@ public final class ImportGenerator implements SourceGenerator<ImportManager> {
     }
 
     @Override
-    public void generateSource(PrintWriter writer, ImportManager importManager) {
+    public void generateSource(SourceWriter writer, ImportManager importManager) {
         generatePackageDeclaration(writer, importManager.packageName());
         generateImportDeclarations(writer, importManager.importDeclarations());
     }
@@ -28,23 +28,24 @@ public final class ImportGenerator implements SourceGenerator<ImportManager> {
     private ImportGenerator() {}
 
     /** Generates a package declaration, unless the unnamed package is used. */
-    private void generatePackageDeclaration(PrintWriter writer, String packageName) {
+    private void generatePackageDeclaration(SourceWriter writer, String packageName) {
         if (packageName.isEmpty()) {
             return;
         }
 
-        writer.format("package %s;", packageName).println();
+        writer.print("package ").print(packageName).println(";");
         writer.println();
     }
 
     /** Generates the import declarations. */
-    private void generateImportDeclarations(PrintWriter writer, List<ImportableType> importDeclarations) {
+    private void generateImportDeclarations(SourceWriter writer, List<ImportableType> importDeclarations) {
         if (importDeclarations.isEmpty()) {
             return;
         }
 
-        importDeclarations.forEach(
-                type -> writer.format("import %s;", type.qualifiedName()).println());
+        for (ImportableType type : importDeclarations) {
+            writer.print("import ").print(type.qualifiedName()).println(";");
+        }
         writer.println();
     }
 }
@@ -1,26 +1,55 @@
 package org.example.processor.imports;
 
-import java.util.Collection;
-import java.util.Map;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
 import org.example.processor.type.ImportableType;
 
 /**
  * Trie that contains all the imported types.
  *
  * <p>A preorder traversal of this trie will visit the imported types in sorted order.</p>
+ *
+ * <p>To keep the trie compact, each node stores its children in an array that is sorted by name part,
+ * and the name parts are interned (e.g., {@code java} is shared by all tries).
+ * A child can be found with a binary search over a region of a larger name, without creating a substring.</p>
+ *
+ * <p>Every trie contains the implicitly imported packages: {@code java.lang} and the current package.
+ * Those paths are built once per package in a frozen base trie, which is shared by all tries for that package.
+ * A trie is a copy-on-write overlay of the base trie: a frozen node is copied when a child is added below it.</p>
  */
 final class ImportTrie {
 
+    private static final ImportTrie[] NO_CHILDREN = new ImportTrie[0];
+    private static final int INITIAL_CHILDREN_CAPACITY = 4;
+    private static final Interner<String> NAME_PART_INTERNER = Interners.newWeakInterner();
+    private static final LoadingCache<String, ImportTrie> BASE_ROOTS_BY_PACKAGE =
+            CacheBuilder.newBuilder().maximumSize(1_000).build(CacheLoader.from(ImportTrie::createBaseRoot));
+
+    private final String namePart;
     private final int depthIndex;
-    private Optional<ImportableType> maybeImportedType = Optional.empty();
+    private ImportableType importedType = null;
     private boolean isImplicitlyImportedPackage = false;
-    private Map<String, ImportTrie> children = new TreeMap<>();
+    private ImportTrie[] children = NO_CHILDREN;
+    private int childCount = 0;
+    private boolean isFrozen = false;
 
     /** Creates the root node of an empty trie. */
     public static ImportTrie createRoot() {
-        return new ImportTrie(-1);
+        return new ImportTrie("", -1);
+    }
+
+    /** Creates the root node of a trie that only contains the implicitly imported packages for the package. */
+    public static ImportTrie createRoot(String packageName) {
+        ImportTrie baseRoot = BASE_ROOTS_BY_PACKAGE.getUnchecked(packageName);
+        return baseRoot.copy();
     }
 
     /**
@@ -35,12 +64,16 @@ final class ImportTrie {
 
     /** Determines if an imported type exists at the current node. */
     public boolean isImportedType() {
-        return maybeImportedType.isPresent();
+        return importedType != null;
     }
 
     /** Gets the imported type at the current node. */
     public ImportableType getImportedType() {
-        return maybeImportedType.get();
+        if (importedType == null) {
+            throw new NoSuchElementException("no imported type at this node");
+        }
+
+        return importedType;
     }
 
     /** Determines if an implicitly imported package exists at the current node. */
@@ -50,35 +83,189 @@ final class ImportTrie {
 
     /** Tries to get a child. */
     public Optional<ImportTrie> tryGetChild(String namePart) {
-        return Optional.ofNullable(children.get(namePart));
+        return Optional.ofNullable(getChildOrNull(namePart, 0, namePart.length()));
+    }
+
+    /**
+     * Gets the child whose name part is the region of the name between the indices, or null if no child is found.
+     *
+     * <p>This lookup does not allocate; it is used to walk the trie directly from the characters of a name.</p>
+     */
+    public ImportTrie getChildOrNull(String name, int beginIndex, int endIndex) {
+        int childIndex = findChildIndex(name, beginIndex, endIndex);
+        return (childIndex >= 0) ? children[childIndex] : null;
     }
 
     /** Gets the children in sorted order. */
-    public Collection<ImportTrie> getChildren() {
-        return children.values();
+    public List<ImportTrie> getChildren() {
+        return List.of(Arrays.copyOf(children, childCount));
+    }
+
+    /** Gets the number of children. */
+    public int getChildCount() {
+        return childCount;
+    }
+
+    /** Gets the child at the index, where the children are in sorted order. */
+    public ImportTrie getChild(int index) {
+        Objects.checkIndex(index, childCount);
+        return children[index];
     }
 
     /** Sets the imported type at the current node. */
     public void setImportedType(ImportableType importedType) {
-        maybeImportedType = Optional.of(importedType);
+        checkNotFrozen();
+        this.importedType = importedType;
     }
 
     /** Sets an implicitly imported package at the current node. */
     public void setImplicitlyImportedPackage() {
+        checkNotFrozen();
         isImplicitlyImportedPackage = true;
     }
 
+    /**
+     * Follows or creates a path down the trie, returning the node at end of the path.
+     *
+     * <p>The path is followed directly from the characters of the name, without splitting the name.</p>
+     */
+    public ImportTrie getOrAddPath(String name) {
+        ImportTrie node = this;
+        if (name.isEmpty()) {
+            return node;
+        }
+
+        int beginIndex = 0;
+        while (beginIndex <= name.length()) {
+            int endIndex = name.indexOf('.', beginIndex);
+            if (endIndex == -1) {
+                endIndex = name.length();
+            }
+
+            node = node.getOrAddChild(name, beginIndex, endIndex);
+            beginIndex = endIndex + 1;
+        }
+
+        return node;
+    }
+
     /** Gets or adds a child. */
     public ImportTrie getOrAddChild(String namePart) {
-        return children.computeIfAbsent(namePart, k -> createChild());
+        return getOrAddChild(namePart, 0, namePart.length());
     }
 
-    /** Creates a child of the current node. */
-    private ImportTrie createChild() {
-        return new ImportTrie(depthIndex + 1);
+    /**
+     * Gets or adds a child whose name part is the region of the name between the indices.
+     *
+     * <p>A substring is only created when a child is added. If the child is frozen, it is replaced with a copy.</p>
+     */
+    public ImportTrie getOrAddChild(String name, int beginIndex, int endIndex) {
+        checkNotFrozen();
+        int childIndex = findChildIndex(name, beginIndex, endIndex);
+        if (childIndex >= 0) {
+            ImportTrie child = children[childIndex];
+            if (child.isFrozen) {
+                child = child.copy();
+                children[childIndex] = child;
+            }
+
+            return child;
+        }
+
+        String namePart = NAME_PART_INTERNER.intern(name.substring(beginIndex, endIndex));
+        ImportTrie child = new ImportTrie(namePart, depthIndex + 1);
+        insertChild(-(childIndex + 1), child);
+        return child;
+    }
+
+    /** Creates the frozen base trie for a package, which contains the implicitly imported packages. */
+    private static ImportTrie createBaseRoot(String packageName) {
+        ImportTrie root = createRoot();
+        root.getOrAddPath("java.lang").setImplicitlyImportedPackage();
+        root.getOrAddPath(packageName).setImplicitlyImportedPackage();
+        root.freeze();
+        return root;
+    }
+
+    /** Freezes this node and all of its descendants, trimming the arrays of children. */
+    private void freeze() {
+        children = (childCount > 0) ? Arrays.copyOf(children, childCount) : NO_CHILDREN;
+        for (int i = 0; i < childCount; i++) {
+            children[i].freeze();
+        }
+
+        isFrozen = true;
+    }
+
+    /** Creates an unfrozen copy of this node, which shares the (possibly frozen) children of this node. */
+    private ImportTrie copy() {
+        ImportTrie copy = new ImportTrie(namePart, depthIndex);
+        copy.importedType = importedType;
+        copy.isImplicitlyImportedPackage = isImplicitlyImportedPackage;
+        copy.children = (childCount > 0) ? Arrays.copyOf(children, childCount) : NO_CHILDREN;
+        copy.childCount = childCount;
+        return copy;
+    }
+
+    /** Checks that this node is not frozen. */
+    private void checkNotFrozen() {
+        if (isFrozen) {
+            throw new IllegalStateException("trie is frozen");
+        }
+    }
+
+    /** Inserts a child at the index, growing the array of children if needed. */
+    private void insertChild(int index, ImportTrie child) {
+        if (childCount == children.length) {
+            int capacity = Math.max(children.length * 2, INITIAL_CHILDREN_CAPACITY);
+            children = Arrays.copyOf(children, capacity);
+        }
+
+        System.arraycopy(children, index, children, index + 1, childCount - index);
+        children[index] = child;
+        childCount++;
+    }
+
+    /**
+     * Finds the index of the child whose name part is the region of the name between the indices.
+     *
+     * <p>If no child is found, it returns {@code (-(insertion point) - 1)}, like {@link Arrays#binarySearch}.</p>
+     */
+    private int findChildIndex(String name, int beginIndex, int endIndex) {
+        int low = 0;
+        int high = childCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareNamePart(children[mid].namePart, name, beginIndex, endIndex);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /** Compares a name part to a region of a name, using the same order as {@link String#compareTo(String)}. */
+    private static int compareNamePart(String namePart, String name, int beginIndex, int endIndex) {
+        int regionLength = endIndex - beginIndex;
+        int minLength = Math.min(namePart.length(), regionLength);
+        for (int i = 0; i < minLength; i++) {
+            char namePartChar = namePart.charAt(i);
+            char nameChar = name.charAt(beginIndex + i);
+            if (namePartChar != nameChar) {
+                return namePartChar - nameChar;
+            }
+        }
+
+        return namePart.length() - regionLength;
     }
 
-    private ImportTrie(int depthIndex) {
+    private ImportTrie(String namePart, int depthIndex) {
+        this.namePart = namePart;
         this.depthIndex = depthIndex;
     }
 }
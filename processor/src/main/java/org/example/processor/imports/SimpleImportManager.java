@@ -1,32 +1,34 @@
 package org.example.processor.imports;
 
-import com.google.common.base.Splitter;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import org.example.processor.source.SourceWriter;
 import org.example.processor.type.ImportableType;
 
-/** Imports a set of types that are directly provided. */
+/**
+ * Imports a set of types that are directly provided.
+ *
+ * <p>The shortened name of each type is memoized, since the same types are referenced repeatedly.
+ * The names of imported types are known upfront; the names of other types are computed when first referenced.</p>
+ */
 public final class SimpleImportManager extends BaseImportManager {
 
-    private static final Splitter NAME_SPLITTER = Splitter.on('.');
-
     private final String packageName;
     private final ImportTrie trie;
     private final List<ImportableType> importDeclarations;
     private final Set<ImportableType> implicitlyImportedTypes;
+    private final Map<ImportableType, String> shortenedNames = new ConcurrentHashMap<>();
 
     /**
      * Creates an {@link ImportManager} from a package name and a set of imported types.
@@ -57,45 +59,33 @@ public final class SimpleImportManager extends BaseImportManager {
     }
 
     @Override
-    public void generateSource(PrintWriter writer, ImportableType type) {
-        List<String> nameParts = splitName(type.qualifiedName());
-        int importIndex = findLastImportedIndex(nameParts);
-        List<String> shortenedNameParts = nameParts.subList(importIndex, nameParts.size());
-        String shortenedName = joinNameParts(shortenedNameParts);
+    public void generateSource(SourceWriter writer, ImportableType type) {
+        String shortenedName = shortenedNames.computeIfAbsent(type, this::shortenName);
         writer.print(shortenedName);
     }
 
     /** Creates an import manager from the package name and the imported types. */
     private SimpleImportManager(String packageName, Set<ImportableType> importedTypes) {
-        Set<String> implicitlyImportedPackages = Set.of("java.lang", packageName);
         this.packageName = packageName;
-        trie = ImportTrie.createRoot();
-        populateTrie(importedTypes, implicitlyImportedPackages);
+        trie = ImportTrie.createRoot(packageName);
+        populateTrie(importedTypes);
         importDeclarations = collectImportDeclarations();
         implicitlyImportedTypes = collectImplicitlyImportedTypes();
+        addImportedShortenedNames();
     }
 
-    /** Populates the trie with imported types and implicitly imported packages. */
-    private void populateTrie(Set<ImportableType> importedTypes, Set<String> implicitlyImportedPackages) {
+    /** Populates the trie with imported types; the trie already contains the implicitly imported packages. */
+    private void populateTrie(Set<ImportableType> importedTypes) {
         checkNoConflictingImports(importedTypes);
         importedTypes.forEach(this::addImportedName);
-        implicitlyImportedPackages.forEach(this::addImplicitlyImportedPackage);
     }
 
     /** Adds an imported type to the trie. */
     private void addImportedName(ImportableType importedType) {
-        List<String> nameParts = splitName(importedType.qualifiedName());
-        ImportTrie node = followOrCreatePath(nameParts);
+        ImportTrie node = trie.getOrAddPath(importedType.qualifiedName());
         node.setImportedType(importedType);
     }
 
-    /** Adds an implicitly imported package to the trie. */
-    private void addImplicitlyImportedPackage(String implicitlyImportedPackage) {
-        List<String> nameParts = splitName(implicitlyImportedPackage);
-        ImportTrie node = followOrCreatePath(nameParts);
-        node.setImplicitlyImportedPackage();
-    }
-
     /** Collects the import declarations from the trie. */
     private List<ImportableType> collectImportDeclarations() {
         List<ImportableType> importDeclarations = new ArrayList<>();
@@ -110,6 +100,12 @@ public final class SimpleImportManager extends BaseImportManager {
         return Collections.unmodifiableSet(implicitlyImportedTypes);
     }
 
+    /** Adds the shortened names of the imported types, which are their simple names. */
+    private void addImportedShortenedNames() {
+        importDeclarations.forEach(type -> shortenedNames.put(type, type.simpleName()));
+        implicitlyImportedTypes.forEach(type -> shortenedNames.put(type, type.simpleName()));
+    }
+
     /** Collects imported types from the trie. */
     private void collectImportedTypes(
             Collection<ImportableType> importedTypes,
@@ -122,44 +118,48 @@ public final class SimpleImportManager extends BaseImportManager {
             }
         }
 
-        node.getChildren()
-                .forEach(child -> collectImportedTypes(
-                        importedTypes, collectImplicit, child, node.isImplicitlyImportedPackage()));
+        for (int i = 0; i < node.getChildCount(); i++) {
+            ImportTrie child = node.getChild(i);
+            collectImportedTypes(importedTypes, collectImplicit, child, node.isImplicitlyImportedPackage());
+        }
     }
 
-    /** Finds the index of the last imported name part, or 0 if no part is imported. */
-    private int findLastImportedIndex(List<String> nameParts) {
-        return getPath(nameParts)
-                .filter(ImportTrie::isImportedType)
-                .mapToInt(ImportTrie::getDepthIndex)
-                .max()
-                .orElse(0);
+    /** Shortens the name of a type, based on the imported types. */
+    private String shortenName(ImportableType type) {
+        String qualifiedName = type.qualifiedName();
+        int shortenedNameIndex = findShortenedNameIndex(qualifiedName);
+        return qualifiedName.substring(shortenedNameIndex);
     }
 
-    /** Follows or creates a path down the trie, returning the node at end of the path. */
-    private ImportTrie followOrCreatePath(List<String> nameParts) {
-        return nameParts.stream().reduce(trie, ImportTrie::getOrAddChild, SimpleImportManager::dummyCombiner);
-    }
+    /**
+     * Finds the index where the shortened name begins, i.e., the start of the last imported name part,
+     * or 0 if no part is imported.
+     *
+     * <p>The trie is walked directly from the characters of the name, without splitting the name.</p>
+     */
+    private int findShortenedNameIndex(String qualifiedName) {
+        int shortenedNameIndex = 0;
+        ImportTrie node = trie;
+        int beginIndex = 0;
+        while (beginIndex <= qualifiedName.length()) {
+            int endIndex = qualifiedName.indexOf('.', beginIndex);
+            if (endIndex == -1) {
+                endIndex = qualifiedName.length();
+            }
 
-    /** Gets the path down the trie, which terminates if a child is not found. */
-    private Stream<ImportTrie> getPath(List<String> nameParts) {
-        Iterator<String> namePartItr = nameParts.iterator();
-        return Stream.iterate(
-                        Optional.of(trie),
-                        Optional::isPresent,
-                        maybeNode -> maybeNode.flatMap(node ->
-                                namePartItr.hasNext() ? node.tryGetChild(namePartItr.next()) : Optional.empty()))
-                .map(Optional::get);
-    }
+            node = node.getChildOrNull(qualifiedName, beginIndex, endIndex);
+            if (node == null) {
+                break;
+            }
 
-    /** Splits a name into individual parts. */
-    private static List<String> splitName(String name) {
-        return !name.isEmpty() ? NAME_SPLITTER.splitToList(name) : List.of();
-    }
+            if (node.isImportedType()) {
+                shortenedNameIndex = beginIndex;
+            }
+
+            beginIndex = endIndex + 1;
+        }
 
-    /** Joins the parts into a name. */
-    private static String joinNameParts(List<String> nameParts) {
-        return String.join(".", nameParts);
+        return shortenedNameIndex;
     }
 
     /** Checks that each imported type has a unique simple name. */
@@ -1,7 +1,6 @@
 package org.example.processor.source;
 
 import java.io.IOException;
-import java.io.PrintWriter;
 import java.io.Writer;
 import javax.annotation.processing.Filer;
 import javax.lang.model.element.Element;
@@ -12,10 +11,23 @@ import javax.tools.FileObject;
  *
  * <p>The object model will need to provide the name of the source via {@link #getSourceName(Object)}.
  * It may also be used to help create the {@link SourceGenerator} via {@link #createSourceGenerator(Object)}.</p>
+ *
+ * <p>The source code is rendered into a {@link SourceWriter} and then written to the source file in a single write.
+ * Each thread reuses its own {@link SourceWriter}, which is pre-sized via {@link #estimateSourceLength(Object)}.</p>
+ *
+ * <p>Rendering and writing can also be separated via {@link #renderSource(Object)}
+ * and {@link #writeSourceFile(Object, CharSequence, Element)}. Rendering does not use the {@link Filer},
+ * so it can be done on other threads if the {@link SourceGenerator} is thread-safe;
+ * writing must be done on the compiler thread. Since the rendered source outlives the rendering thread,
+ * it is rendered into a new {@link SourceWriter} that is pre-sized via {@link #estimateSourceLength(Object)},
+ * and that {@link SourceWriter} is then written to the source file without copying it to a {@link String}.</p>
  */
 public abstract class IsolatingSourceFileGenerator<M, E extends Element> {
 
+    private static final int MAX_POOLED_CAPACITY = 1 << 20;
+
     private final Filer filer;
+    private final ThreadLocal<SourceWriter> pooledWriters = ThreadLocal.withInitial(SourceWriter::new);
 
     protected IsolatingSourceFileGenerator(Filer filer) {
         this.filer = filer;
@@ -24,9 +36,33 @@ public abstract class IsolatingSourceFileGenerator<M, E extends Element> {
     /** Generates a source file from the object model, which was generated from the originating element. */
     public final void generateSourceFile(M model, E originatingElement) throws IOException {
         FileObject sourceFileObject = createSourceFileObject(model, originatingElement);
-        try (Writer underlyingWriter = sourceFileObject.openWriter();
-                PrintWriter writer = new PrintWriter(underlyingWriter)) {
-            generateSourceFile(writer, model);
+        SourceWriter sourceWriter = acquirePooledWriter(model);
+        try {
+            generateSource(sourceWriter, model);
+            try (Writer writer = sourceFileObject.openWriter()) {
+                sourceWriter.writeTo(writer);
+            }
+        } finally {
+            releasePooledWriter(sourceWriter);
+        }
+    }
+
+    /** Renders the source code for the object model, without creating the source file. */
+    public final CharSequence renderSource(M model) {
+        SourceWriter sourceWriter = new SourceWriter(estimateSourceLength(model));
+        generateSource(sourceWriter, model);
+        return sourceWriter;
+    }
+
+    /** Writes the rendered source code for the object model to a source file, in a single write. */
+    public final void writeSourceFile(M model, CharSequence source, E originatingElement) throws IOException {
+        FileObject sourceFileObject = createSourceFileObject(model, originatingElement);
+        try (Writer writer = sourceFileObject.openWriter()) {
+            if (source instanceof SourceWriter sourceWriter) {
+                sourceWriter.writeTo(writer);
+            } else {
+                writer.append(source);
+            }
         }
     }
 
@@ -36,15 +72,39 @@ public abstract class IsolatingSourceFileGenerator<M, E extends Element> {
     /** Creates the source generator from the object model. */
     protected abstract SourceGenerator<M> createSourceGenerator(M model);
 
+    /**
+     * Estimates the length of the source code in characters, or returns 0 if no estimate is available.
+     *
+     * <p>The estimate does not need to be exact; the buffer will still grow if it is too small.</p>
+     */
+    protected int estimateSourceLength(M model) {
+        return 0;
+    }
+
     /** Creates the source file. */
     private FileObject createSourceFileObject(M model, E originatingElement) throws IOException {
         String sourceName = getSourceName(model);
         return filer.createSourceFile(sourceName, originatingElement);
     }
 
-    /** Generates the source file using its writer. */
-    private void generateSourceFile(PrintWriter writer, M model) {
+    /** Generates the source code for the source file. */
+    private void generateSource(SourceWriter writer, M model) {
         SourceGenerator<M> sourceGenerator = createSourceGenerator(model);
         sourceGenerator.generateSource(writer, model);
     }
+
+    /** Gets the cleared writer for the current thread, pre-sizing it for the object model. */
+    private SourceWriter acquirePooledWriter(M model) {
+        SourceWriter writer = pooledWriters.get();
+        writer.clear();
+        writer.ensureCapacity(estimateSourceLength(model));
+        return writer;
+    }
+
+    /** Stops pooling the writer for the current thread if its buffer has grown too large to retain. */
+    private void releasePooledWriter(SourceWriter writer) {
+        if (writer.capacity() > MAX_POOLED_CAPACITY) {
+            pooledWriters.remove();
+        }
+    }
 }
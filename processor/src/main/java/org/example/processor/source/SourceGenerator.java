@@ -1,18 +1,21 @@
 package org.example.processor.source;
 
 import java.io.PrintWriter;
-import java.io.StringWriter;
 
 /** Generates source code from an object model. */
 @FunctionalInterface
 public interface SourceGenerator<M> {
 
-    void generateSource(PrintWriter writer, M model);
+    void generateSource(SourceWriter writer, M model);
+
+    /** Adapts this generator for a {@link PrintWriter}, generating the source code before printing it. */
+    default void generateSource(PrintWriter writer, M model) {
+        writer.print(toSource(model));
+    }
 
     default String toSource(M model) {
-        StringWriter stringWriter = new StringWriter();
-        PrintWriter writer = new PrintWriter(stringWriter);
+        SourceWriter writer = new SourceWriter();
         generateSource(writer, model);
-        return stringWriter.toString();
+        return writer.toString();
     }
 }
@@ -0,0 +1,186 @@
+package org.example.processor.source;
+
+import com.google.errorprone.annotations.FormatMethod;
+import com.google.errorprone.annotations.FormatString;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Writes source code to an in-memory buffer, which can then be written to a {@link Writer} in bulk.
+ *
+ * <p>Unlike {@link java.io.PrintWriter}, it is not synchronized; generators make many small writes,
+ * and a single {@link SourceWriter} is only used by one thread at a time.</p>
+ *
+ * <p>It also supports indentation. Each level of indentation adds four spaces to the start of each line;
+ * the indentation is added when text is written to an empty line, so blank lines are not indented.
+ * To be indented, lines must be terminated via {@link #println()}, not via a line separator in the text.</p>
+ */
+public final class SourceWriter implements Appendable, CharSequence {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String INDENT = "    ";
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private char[] buffer;
+    private int length = 0;
+    private int indentLevel = 0;
+    private boolean isLineStart = true;
+
+    /** Creates a {@link SourceWriter} with the default initial capacity. */
+    public SourceWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** Creates a {@link SourceWriter} with an initial capacity, which should be an estimate of the source length. */
+    public SourceWriter(int initialCapacity) {
+        if (initialCapacity < 0) {
+            String message = String.format("initial capacity is negative: %d", initialCapacity);
+            throw new IllegalArgumentException(message);
+        }
+
+        buffer = new char[initialCapacity];
+    }
+
+    /** Prints a string. */
+    public SourceWriter print(String s) {
+        if (s.isEmpty()) {
+            return this;
+        }
+
+        writeIndentIfLineStart();
+        writeRaw(s);
+        return this;
+    }
+
+    /** Prints a character. */
+    public SourceWriter print(char c) {
+        writeIndentIfLineStart();
+        ensureCapacity(length + 1);
+        buffer[length++] = c;
+        return this;
+    }
+
+    /** Terminates the current line. */
+    public SourceWriter println() {
+        writeRaw(LINE_SEPARATOR);
+        isLineStart = true;
+        return this;
+    }
+
+    /** Prints a string and then terminates the line. */
+    public SourceWriter println(String s) {
+        return print(s).println();
+    }
+
+    /**
+     * Prints a formatted string.
+     *
+     * <p>Formatting is comparatively slow; frequently generated code should use {@link #print(String)} instead.</p>
+     */
+    @FormatMethod
+    public SourceWriter format(@FormatString String format, Object... args) {
+        return print(String.format(format, args));
+    }
+
+    /** Increases the indentation by one level, starting with the next line. */
+    public SourceWriter indent() {
+        indentLevel++;
+        return this;
+    }
+
+    /** Decreases the indentation by one level, starting with the next line. */
+    public SourceWriter outdent() {
+        if (indentLevel == 0) {
+            throw new IllegalStateException("source is not indented");
+        }
+
+        indentLevel--;
+        return this;
+    }
+
+    @Override
+    public SourceWriter append(CharSequence csq) {
+        return print(String.valueOf(csq));
+    }
+
+    @Override
+    public SourceWriter append(CharSequence csq, int start, int end) {
+        return print(String.valueOf(csq).substring(start, end));
+    }
+
+    @Override
+    public SourceWriter append(char c) {
+        return print(c);
+    }
+
+    /** Gets the number of characters that have been written. */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return buffer[index];
+    }
+
+    @Override
+    public String subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return new String(buffer, start, end - start);
+    }
+
+    /** Gets the number of characters that can be written before the buffer grows. */
+    public int capacity() {
+        return buffer.length;
+    }
+
+    /** Grows the buffer if needed so that it can hold at least the minimum number of characters. */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity <= buffer.length) {
+            return;
+        }
+
+        int capacity = Math.max(buffer.length * 2, minCapacity);
+        buffer = Arrays.copyOf(buffer, capacity);
+    }
+
+    /** Writes the source code to a {@link Writer} in a single write. */
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(buffer, 0, length);
+    }
+
+    /** Clears the source code and the indentation, retaining the buffer so that it can be reused. */
+    public void clear() {
+        length = 0;
+        indentLevel = 0;
+        isLineStart = true;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    /** Writes the indentation if the current line is empty. */
+    private void writeIndentIfLineStart() {
+        if (!isLineStart) {
+            return;
+        }
+
+        isLineStart = false;
+        for (int i = 0; i < indentLevel; i++) {
+            writeRaw(INDENT);
+        }
+    }
+
+    /** Writes a string without indentation. */
+    private void writeRaw(String s) {
+        ensureCapacity(length + s.length());
+        s.getChars(0, s.length(), buffer, length);
+        length += s.length();
+    }
+}
@@ -0,0 +1,231 @@
+package org.example.processor.stats;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the time spent and the bytes allocated in each phase of processing, both per round and per element.
+ *
+ * <p>It is enabled via a processor option whose value is the path of the JSON report,
+ * which is written via {@link #writeReport()}. When it is disabled, {@link #start(String, CharSequence)}
+ * returns a shared no-op {@link Span}, so the instrumentation can remain in place for production builds.</p>
+ *
+ * <p>Spans can be recorded on any thread, but each span must be closed on the thread that started it.
+ * Nested spans are recorded independently; e.g., the time for {@code model} includes the time for
+ * {@code model.type}.</p>
+ */
+public final class ProcessorStats {
+
+    private static final ProcessorStats DISABLED = new ProcessorStats(null);
+    private static final Span NO_OP_SPAN = () -> {};
+
+    private final Path reportPath;
+    private final AtomicInteger round = new AtomicInteger();
+    private final ConcurrentMap<Integer, ConcurrentMap<String, PhaseStats>> phaseStatsByRound =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, PhaseStats>> phaseStatsByElement =
+            new ConcurrentHashMap<>();
+
+    /** Gets a disabled {@link ProcessorStats}, which records nothing. */
+    public static ProcessorStats disabled() {
+        return DISABLED;
+    }
+
+    /** Creates a {@link ProcessorStats} that is enabled if the option provides the path of the report. */
+    public static ProcessorStats fromOptions(Map<String, String> options, String option) {
+        String reportPath = options.get(option);
+        return (reportPath != null) ? new ProcessorStats(Path.of(reportPath)) : DISABLED;
+    }
+
+    /** Determines if stats are recorded. */
+    public boolean isEnabled() {
+        return reportPath != null;
+    }
+
+    /** Starts a new round; subsequent spans are recorded for this round. */
+    public void startRound() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        round.incrementAndGet();
+    }
+
+    /** Starts a span for a phase of the current round. */
+    public Span start(String phase) {
+        return start(phase, null);
+    }
+
+    /** Starts a span for a phase of the current round, which is also recorded for the element if it is not null. */
+    public Span start(String phase, CharSequence element) {
+        if (!isEnabled()) {
+            return NO_OP_SPAN;
+        }
+
+        String elementName = (element != null) ? element.toString() : null;
+        return new RecordingSpan(round.get(), phase, elementName);
+    }
+
+    /** Writes the JSON report, if enabled. */
+    public void writeReport() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Path parentPath = reportPath.toAbsolutePath().getParent();
+        if (parentPath != null) {
+            Files.createDirectories(parentPath);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), createReport());
+    }
+
+    /** Creates the report, sorting the rounds, elements, and phases. */
+    private Map<String, Object> createReport() {
+        List<Map<String, Object>> roundReports = new ArrayList<>();
+        new TreeMap<>(phaseStatsByRound).forEach((roundNumber, phaseStats) -> {
+            Map<String, Object> roundReport = new LinkedHashMap<>();
+            roundReport.put("round", roundNumber);
+            roundReport.put("phases", createPhasesReport(phaseStats));
+            roundReports.add(roundReport);
+        });
+
+        Map<String, Object> elementReports = new TreeMap<>();
+        phaseStatsByElement.forEach(
+                (elementName, phaseStats) -> elementReports.put(elementName, createPhasesReport(phaseStats)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("rounds", roundReports);
+        report.put("elements", elementReports);
+        return report;
+    }
+
+    /** Creates the report for the stats of each phase. */
+    private static Map<String, Object> createPhasesReport(Map<String, PhaseStats> phaseStats) {
+        Map<String, Object> phasesReport = new TreeMap<>();
+        phaseStats.forEach((phase, stats) -> phasesReport.put(phase, stats.createReport()));
+        return phasesReport;
+    }
+
+    /** Records a completed span. */
+    private void record(int round, String phase, String elementName, long nanos, long allocatedBytes) {
+        phaseStatsByRound
+                .computeIfAbsent(round, r -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, p -> new PhaseStats())
+                .add(nanos, allocatedBytes);
+        if (elementName == null) {
+            return;
+        }
+
+        phaseStatsByElement
+                .computeIfAbsent(elementName, e -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, p -> new PhaseStats())
+                .add(nanos, allocatedBytes);
+    }
+
+    private ProcessorStats(Path reportPath) {
+        this.reportPath = reportPath;
+    }
+
+    /** Span of time for a phase, which is recorded when it is closed. */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /** Span that records the elapsed time and the bytes allocated by the current thread. */
+    private final class RecordingSpan implements Span {
+
+        private final int round;
+        private final String phase;
+        private final String elementName;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+
+        @Override
+        public void close() {
+            long nanos = System.nanoTime() - startNanos;
+            long allocatedBytes = AllocationCounter.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+            record(round, phase, elementName, nanos, allocatedBytes);
+        }
+
+        private RecordingSpan(int round, String phase, String elementName) {
+            this.round = round;
+            this.phase = phase;
+            this.elementName = elementName;
+            startAllocatedBytes = AllocationCounter.getCurrentThreadAllocatedBytes();
+            startNanos = System.nanoTime();
+        }
+    }
+
+    /** Aggregated stats for a phase. */
+    private static final class PhaseStats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        /** Adds the stats for a span. */
+        public void add(long nanos, long allocatedBytes) {
+            count.increment();
+            this.nanos.add(nanos);
+            this.allocatedBytes.add(allocatedBytes);
+        }
+
+        /** Creates the report for this phase. */
+        public Map<String, Object> createReport() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("count", count.sum());
+            report.put("nanos", nanos.sum());
+            report.put("allocatedBytes", allocatedBytes.sum());
+            return report;
+        }
+    }
+
+    /**
+     * Counts the bytes allocated by the current thread, or returns 0 if this is not supported by the JVM.
+     *
+     * <p>This class is only loaded once a span is recorded, so a disabled {@link ProcessorStats} never loads it.</p>
+     */
+    private static final class AllocationCounter {
+
+        private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+        /** Gets the number of bytes allocated by the current thread. */
+        public static long getCurrentThreadAllocatedBytes() {
+            return (THREAD_MX_BEAN != null) ? THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() : 0;
+        }
+
+        /** Gets the {@link com.sun.management.ThreadMXBean}, or null if allocated bytes cannot be measured. */
+        private static com.sun.management.ThreadMXBean getThreadMXBean() {
+            if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean)) {
+                return null;
+            }
+
+            if (!threadMXBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+            return threadMXBean;
+        }
+
+        // static class
+        private AllocationCounter() {}
+    }
+}
@@ -13,8 +13,14 @@ import org.immutables.value.Value;
  * all other relevant information can be derived from the binary name.</p>
  *
  * <p>{@link ImportableType}'s are ordered based on their qualified name.</p>
+ *
+ * <p>The offsets that split the binary name into the package name and the class name are found once,
+ * in a single pass over the binary name; the package, class, and simple names are sliced from those offsets.</p>
+ *
+ * <p>The hash code is precomputed, since {@link ImportableType}'s are frequently used in hash-based collections.
+ * Use {@link ImportableTypes} to get canonical instances.</p>
  */
-@Value.Immutable
+@Value.Immutable(prehash = true)
 @JsonSerialize(as = ImmutableImportableType.class)
 @JsonDeserialize(as = ImmutableImportableType.class)
 public interface ImportableType extends Comparable<ImportableType> {
@@ -40,50 +46,71 @@ public interface ImportableType extends Comparable<ImportableType> {
     String binaryName();
 
     /** Gets the fully qualified name. */
-    @Value.Derived
-    @Value.Auxiliary
+    @Value.Lazy
     @JsonIgnore
     default String qualifiedName() {
         return binaryName().replace('$', '.');
     }
 
     /** Gets the simple name. */
-    @Value.Derived
-    @Value.Auxiliary
     @JsonIgnore
     default String simpleName() {
-        int lastNestingIndex = className().lastIndexOf('.');
-        return (lastNestingIndex != -1) ? className().substring(lastNestingIndex + 1) : className();
+        return binaryName().substring(simpleNameIndex(nameOffsets()));
     }
 
     /** Gets the package name. */
-    @Value.Derived
-    @Value.Auxiliary
     @JsonIgnore
     default String packageName() {
-        int packageLength = binaryName().length() - className().length() - 1;
-        return (packageLength != -1) ? binaryName().substring(0, packageLength) : "";
+        int packageEndIndex = packageEndIndex(nameOffsets());
+        return (packageEndIndex != -1) ? binaryName().substring(0, packageEndIndex) : "";
     }
 
     /** Gets the class name, using '.' to delimit nested classes. */
-    @Value.Derived
-    @Value.Auxiliary
     @JsonIgnore
     default String className() {
-        int lastDotIndex = binaryName().lastIndexOf('.');
-        String binaryClassName = (lastDotIndex != -1) ? binaryName().substring(lastDotIndex + 1) : binaryName();
-        return binaryClassName.replace('$', '.');
+        String binaryClassName = binaryName().substring(packageEndIndex(nameOffsets()) + 1);
+        return isTopLevelType() ? binaryClassName : binaryClassName.replace('$', '.');
     }
 
     /** Determines if this type is a top-level type. */
+    @JsonIgnore
+    default boolean isTopLevelType() {
+        long nameOffsets = nameOffsets();
+        return simpleNameIndex(nameOffsets) == packageEndIndex(nameOffsets) + 1;
+    }
+
+    /**
+     * Gets the offsets that split the binary name, which are found in a single pass.
+     *
+     * <p>The high 32 bits are the index of the last '.' (or -1 in the unnamed package),
+     * and the low 32 bits are the start index of the simple name.</p>
+     */
     @Value.Derived
     @Value.Auxiliary
     @JsonIgnore
-    default boolean isTopLevelType() {
-        return !binaryName().contains("$");
+    default long nameOffsets() {
+        String binaryName = binaryName();
+        int packageEndIndex = -1;
+        int simpleNameIndex = 0;
+        for (int i = 0; i < binaryName.length(); i++) {
+            char c = binaryName.charAt(i);
+            if (c == '.') {
+                packageEndIndex = i;
+                simpleNameIndex = i + 1;
+            } else if (c == '$') {
+                simpleNameIndex = i + 1;
+            }
+        }
+
+        return ((long) packageEndIndex << 32) | simpleNameIndex;
     }
 
-    /** Gets the top-level type, or this type if it is a top-level type. */
+    /**
+     * Gets the top-level type, or this type if it is a top-level type.
+     *
+     * <p>The top-level type is created once per instance, but it is not a canonical instance from
+     * {@link ImportableTypes}.</p>
+     */
     @Value.Lazy
     @JsonIgnore
     default ImportableType topLevelType() {
@@ -91,12 +118,17 @@ public interface ImportableType extends Comparable<ImportableType> {
             return this;
         }
 
-        int nestingIndex = binaryName().indexOf('$');
+        int nestingIndex = binaryName().indexOf('$', packageEndIndex(nameOffsets()) + 1);
         String topLevelBinaryName = binaryName().substring(0, nestingIndex);
         return ImportableType.of(topLevelBinaryName);
     }
 
-    /** Tries to get the enclosing type. */
+    /**
+     * Tries to get the enclosing type.
+     *
+     * <p>The enclosing type is created once per instance, but it is not a canonical instance from
+     * {@link ImportableTypes}.</p>
+     */
     @Value.Lazy
     @JsonIgnore
     default Optional<ImportableType> enclosingType() {
@@ -104,25 +136,53 @@ public interface ImportableType extends Comparable<ImportableType> {
             return Optional.empty();
         }
 
-        int lastNestingIndex = binaryName().lastIndexOf('$');
+        int lastNestingIndex = simpleNameIndex(nameOffsets()) - 1;
         String enclosingBinaryName = binaryName().substring(0, lastNestingIndex);
         return Optional.of(ImportableType.of(enclosingBinaryName));
     }
 
     /** Gets the suffix of the qualified name, based on the outer type. */
     default String qualifiedSuffix(ImportableType outerType) {
-        String binaryPrefix = String.format("%s$", outerType.binaryName());
-        if (!binaryName().startsWith(binaryPrefix)) {
+        int outerLength = outerType.binaryName().length();
+        if (!binaryName().startsWith(outerType.binaryName())
+                || (binaryName().length() <= outerLength)
+                || (binaryName().charAt(outerLength) != '$')) {
             String message = String.format("%s is not an outer type of %s", outerType.binaryName(), binaryName());
             throw new IllegalArgumentException(message);
         }
 
-        String suffix = binaryName().substring(outerType.binaryName().length());
-        return suffix.replace('$', '.');
+        return binaryName().substring(outerLength).replace('$', '.');
     }
 
+    /** Compares the qualified names, treating '$' as '.' in the binary names instead of creating the qualified names. */
     @Override
     default int compareTo(ImportableType other) {
-        return qualifiedName().compareTo(other.qualifiedName());
+        String binaryName = binaryName();
+        String otherBinaryName = other.binaryName();
+        int minLength = Math.min(binaryName.length(), otherBinaryName.length());
+        for (int i = 0; i < minLength; i++) {
+            char c = toQualifiedNameChar(binaryName.charAt(i));
+            char otherC = toQualifiedNameChar(otherBinaryName.charAt(i));
+            if (c != otherC) {
+                return c - otherC;
+            }
+        }
+
+        return binaryName.length() - otherBinaryName.length();
+    }
+
+    /** Gets the index of the last '.' from the name offsets. */
+    private static int packageEndIndex(long nameOffsets) {
+        return (int) (nameOffsets >> 32);
+    }
+
+    /** Gets the start index of the simple name from the name offsets. */
+    private static int simpleNameIndex(long nameOffsets) {
+        return (int) nameOffsets;
+    }
+
+    /** Converts a character of a binary name to the corresponding character of the qualified name. */
+    private static char toQualifiedNameChar(char c) {
+        return (c == '$') ? '.' : c;
     }
 }
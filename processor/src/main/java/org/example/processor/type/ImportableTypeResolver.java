@@ -0,0 +1,49 @@
+package org.example.processor.type;
+
+import java.util.IdentityHashMap;
+import javax.inject.Inject;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import org.example.processor.base.ProcessorScope;
+
+/**
+ * Resolves {@link TypeElement}'s to canonical {@link ImportableType}'s, caching each resolved type.
+ *
+ * <p>{@link Elements#getBinaryName(TypeElement)} walks the enclosing elements and builds a new name each time,
+ * and the same types are referenced many times while modeling, so each {@link TypeElement} is only resolved once.</p>
+ *
+ * <p>Elements are canonical within a round, so the cache is an identity map. Elements may be recreated
+ * in later rounds, so the cache should be cleared at the end of each round via {@link #clear()}.
+ * Like {@link ImportableTypes}, it is not thread-safe; it is used while modeling elements.</p>
+ */
+@ProcessorScope
+public final class ImportableTypeResolver {
+
+    private final ImportableTypes importableTypes;
+    private final Elements elementUtils;
+    private final IdentityHashMap<TypeElement, ImportableType> typesByElement = new IdentityHashMap<>();
+
+    @Inject
+    public ImportableTypeResolver(ImportableTypes importableTypes, Elements elementUtils) {
+        this.importableTypes = importableTypes;
+        this.elementUtils = elementUtils;
+    }
+
+    /** Gets the canonical {@link ImportableType} for the {@link TypeElement}. */
+    public ImportableType resolve(TypeElement typeElement) {
+        ImportableType type = typesByElement.get(typeElement);
+        if (type != null) {
+            return type;
+        }
+
+        String binaryName = elementUtils.getBinaryName(typeElement).toString();
+        type = importableTypes.of(binaryName);
+        typesByElement.put(typeElement, type);
+        return type;
+    }
+
+    /** Clears the resolved types, so that elements from previous rounds are not retained. */
+    public void clear() {
+        typesByElement.clear();
+    }
+}
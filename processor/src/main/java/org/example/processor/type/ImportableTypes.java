@@ -0,0 +1,36 @@
+package org.example.processor.type;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import org.example.processor.base.ProcessorScope;
+
+/**
+ * Creates canonical {@link ImportableType}'s, interning them so that each binary name maps to exactly one instance.
+ *
+ * <p>The derived names of each type are computed only once, and equality checks on canonical instances
+ * short-circuit on identity. This registry is not thread-safe; it is used while modeling elements.</p>
+ *
+ * <p>Only types created via this registry are canonical. Types derived from a canonical instance
+ * (e.g., {@link ImportableType#topLevelType()}) are not interned, since they are created while rendering,
+ * which may happen on multiple threads.</p>
+ */
+@ProcessorScope
+public final class ImportableTypes {
+
+    private final Map<String, ImportableType> typesByBinaryName = new HashMap<>();
+
+    @Inject
+    public ImportableTypes() {}
+
+    /** Gets the canonical {@link ImportableType} for the type's binary name. */
+    public ImportableType of(String binaryName) {
+        return typesByBinaryName.computeIfAbsent(binaryName, ImportableType::of);
+    }
+
+    /** Gets the canonical {@link ImportableType} for a package and class name, using '.' to delimit nested classes. */
+    public ImportableType ofPackageAndClass(String packageName, String className) {
+        ImportableType type = ImportableType.ofPackageAndClass(packageName, className);
+        return typesByBinaryName.computeIfAbsent(type.binaryName(), binaryName -> type);
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.processor.type;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.inject.Inject;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import org.example.processor.base.ProcessorScope;
+
+/**
+ * Finds top-level {@link TypeElement}'s, indexing the top-level types of each package at most once per round.
+ *
+ * <p>When a type does not exist, {@link Elements#getTypeElement(CharSequence)} may search every module
+ * and every classpath entry, and it does so again for each missing type. Instead, the top-level types of a package
+ * are enumerated once, and all lookups in that package, whether they find a type or not, are served from that index.
+ * </p>
+ *
+ * <p>Types that are generated during a round only become visible in the next round,
+ * so the index should be cleared at the end of each round via {@link #clear()}.
+ * Like {@link ImportableTypeResolver}, it is not thread-safe; it is used while modeling elements.</p>
+ */
+@ProcessorScope
+public final class TopLevelTypeResolver {
+
+    private final Elements elementUtils;
+    private final Map<String, Map<String, TypeElement>> typesByPackage = new HashMap<>();
+
+    @Inject
+    public TopLevelTypeResolver(Elements elementUtils) {
+        this.elementUtils = elementUtils;
+    }
+
+    /** Finds the {@link TypeElement} for a top-level type, or empty if the type does not exist. */
+    public Optional<TypeElement> find(ImportableType type) {
+        if (!type.isTopLevelType()) {
+            String message = String.format("%s is not a top-level type", type.binaryName());
+            throw new IllegalArgumentException(message);
+        }
+
+        Map<String, TypeElement> typesBySimpleName =
+                typesByPackage.computeIfAbsent(type.packageName(), this::indexPackage);
+        return Optional.ofNullable(typesBySimpleName.get(type.className()));
+    }
+
+    /** Clears the indexed packages, so that types generated in this round will be found in the next round. */
+    public void clear() {
+        typesByPackage.clear();
+    }
+
+    /** Indexes the top-level types of a package by their simple name, across all modules. */
+    private Map<String, TypeElement> indexPackage(String packageName) {
+        Map<String, TypeElement> typesBySimpleName = new HashMap<>();
+        for (PackageElement packageElement : elementUtils.getAllPackageElements(packageName)) {
+            for (TypeElement typeElement : ElementFilter.typesIn(packageElement.getEnclosedElements())) {
+                typesBySimpleName.putIfAbsent(typeElement.getSimpleName().toString(), typeElement);
+            }
+        }
+        return typesBySimpleName;
+    }
+}
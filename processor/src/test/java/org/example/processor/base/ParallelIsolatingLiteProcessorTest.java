@@ -0,0 +1,125 @@
+package org.example.processor.base;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+
+import com.google.testing.compile.Compilation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Processor;
+import javax.inject.Inject;
+import javax.lang.model.element.ExecutableElement;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.assertj.core.api.Assertions;
+import org.example.processor.source.IsolatingSourceFileGenerator;
+import org.example.processor.source.SourceGenerator;
+import org.junit.jupiter.api.Test;
+
+public final class ParallelIsolatingLiteProcessorTest {
+
+    @Test
+    public void process() {
+        Processor processor = TestProcessor.of(TestLiteProcessor.class);
+        Compilation compilation = TestCompiler.compile(processor);
+        assertThat(compilation).succeededWithoutWarnings();
+        Assertions.assertThat(compilation.generatedSourceFile("generated.Test_equals"))
+                .isPresent();
+        Assertions.assertThat(compilation.generatedSourceFile("generated.Test_hashCode"))
+                .isPresent();
+        Assertions.assertThat(compilation.generatedSourceFile("generated.Test_toString"))
+                .isPresent();
+    }
+
+    @Test
+    public void process_Overrides() throws IOException {
+        Processor processor = TestProcessor.of(OverridingTestLiteProcessor.class);
+        Compilation compilation = TestCompiler.compile(processor);
+        assertThat(compilation).succeededWithoutWarnings();
+        Optional<JavaFileObject> maybeSourceFile = compilation.generatedSourceFile("generated.Test_hashCode");
+        Assertions.assertThat(maybeSourceFile).isPresent();
+        Assertions.assertThat(maybeSourceFile.get().getCharContent(false).toString())
+                .isEqualTo(OverridingTestLiteProcessor.OVERRIDDEN_SOURCE);
+        Optional<JavaFileObject> maybeWrittenFile =
+                compilation.generatedFile(StandardLocation.CLASS_OUTPUT, "written/Test_equals.java");
+        Assertions.assertThat(maybeWrittenFile).isPresent();
+        Assertions.assertThat(maybeWrittenFile.get().getCharContent(false).toString())
+                .isEqualTo("package generated;\n\nclass Test_equals {}\n");
+    }
+
+    /** Generates an empty class for each method annotated with {@link Override}, using the method name as the model. */
+    public static final class TestLiteProcessor extends ParallelIsolatingLiteProcessor<ExecutableElement, String> {
+
+        @Inject
+        TestLiteProcessor(Filer filer) {
+            super(Override.class, new TestSourceFileGenerator(filer), ForkJoinPool.commonPool());
+        }
+
+        @Override
+        protected Optional<String> createModel(ExecutableElement annotatedElement) {
+            String name = annotatedElement.getSimpleName().toString();
+            return Optional.of(name);
+        }
+    }
+
+    /**
+     * Same as {@link TestLiteProcessor}, except that the source for {@code hashCode()} is overridden,
+     * and each written source file is copied to a resource in the {@code written} directory.
+     */
+    public static final class OverridingTestLiteProcessor
+            extends ParallelIsolatingLiteProcessor<ExecutableElement, String> {
+
+        public static final String OVERRIDDEN_SOURCE =
+                "package generated;\n\nclass Test_hashCode { /* overridden */ }\n";
+
+        private final Filer filer;
+
+        @Inject
+        OverridingTestLiteProcessor(Filer filer) {
+            super(Override.class, new TestSourceFileGenerator(filer), ForkJoinPool.commonPool());
+            this.filer = filer;
+        }
+
+        @Override
+        protected Optional<String> createModel(ExecutableElement annotatedElement) {
+            String name = annotatedElement.getSimpleName().toString();
+            return Optional.of(name);
+        }
+
+        @Override
+        protected CharSequence renderSource(String name) {
+            return name.equals("hashCode") ? OVERRIDDEN_SOURCE : super.renderSource(name);
+        }
+
+        @Override
+        protected void sourceFileWritten(ExecutableElement annotatedElement, String name, CharSequence source)
+                throws IOException {
+            String relativeName = String.format("written/Test_%s.java", name);
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", relativeName, annotatedElement);
+            try (Writer writer = file.openWriter()) {
+                writer.append(source);
+            }
+        }
+    }
+
+    /** Generates an empty class in the {@code generated} package from the method name. */
+    private static final class TestSourceFileGenerator extends IsolatingSourceFileGenerator<String, ExecutableElement> {
+
+        @Override
+        protected String getSourceName(String name) {
+            return String.format("generated.Test_%s", name);
+        }
+
+        @Override
+        protected SourceGenerator<String> createSourceGenerator(String name) {
+            return (writer, n) -> writer.format("package generated;%n%nclass Test_%s {}%n", n);
+        }
+
+        private TestSourceFileGenerator(Filer filer) {
+            super(filer);
+        }
+    }
+}
@@ -59,4 +59,18 @@ interface TestProcessorModule {
     @LiteProcessorClassKey(IsolatingLiteProcessorTest.TestLiteProcessor.class)
     LiteProcessor bindIsolatingLiteProcessorTest_TestLiteProcessor(
             IsolatingLiteProcessorTest.TestLiteProcessor liteProcessor);
+
+    @Binds
+    @ProcessorScope
+    @IntoMap
+    @LiteProcessorClassKey(ParallelIsolatingLiteProcessorTest.OverridingTestLiteProcessor.class)
+    LiteProcessor bindParallelIsolatingLiteProcessorTest_OverridingTestLiteProcessor(
+            ParallelIsolatingLiteProcessorTest.OverridingTestLiteProcessor liteProcessor);
+
+    @Binds
+    @ProcessorScope
+    @IntoMap
+    @LiteProcessorClassKey(ParallelIsolatingLiteProcessorTest.TestLiteProcessor.class)
+    LiteProcessor bindParallelIsolatingLiteProcessorTest_TestLiteProcessor(
+            ParallelIsolatingLiteProcessorTest.TestLiteProcessor liteProcessor);
 }
@@ -3,10 +3,10 @@ package org.example.processor.imports;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.testing.EqualsTester;
-import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.example.processor.source.SourceWriter;
 import org.example.processor.type.ImportableType;
 import org.junit.jupiter.api.Test;
 
@@ -64,7 +64,7 @@ public final class BaseImportManagerTest {
         }
 
         @Override
-        public void generateSource(PrintWriter writer, ImportableType type) {
+        public void generateSource(SourceWriter writer, ImportableType type) {
             throw new UnsupportedOperationException();
         }
 
@@ -2,10 +2,10 @@ package org.example.processor.imports;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.io.PrintWriter;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.example.processor.source.SourceWriter;
 import org.example.processor.type.ImportableType;
 import org.junit.jupiter.api.Test;
 
@@ -49,7 +49,7 @@ public final class ImportGeneratorTest {
         }
 
         @Override
-        public void generateSource(PrintWriter writer, ImportableType type) {
+        public void generateSource(SourceWriter writer, ImportableType type) {
             throw new UnsupportedOperationException();
         }
     }
@@ -1,6 +1,7 @@
 package org.example.processor.imports;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
 import org.example.processor.type.ImportableType;
@@ -48,6 +49,60 @@ public final class ImportTrieTest {
                 .containsExactly(ImportableType.ofClass(Object.class), ImportableType.ofClass(String.class));
     }
 
+    @Test
+    public void getChildOrNull_RegionOfName() {
+        ImportTrie root = createTrie();
+        String name = "java.lang.String";
+        ImportTrie javaNode = root.getChildOrNull(name, 0, 4);
+        assertThat(javaNode).isSameAs(root.tryGetChild("java").get());
+        assertThat(javaNode.getChildOrNull(name, 5, 9))
+                .isSameAs(javaNode.tryGetChild("lang").get());
+        assertThat(root.getChildOrNull(name, 0, 3)).isNull();
+        assertThat(root.getChildOrNull(name, 0, 9)).isNull();
+    }
+
+    @Test
+    public void getOrAddChild_RegionOfName() {
+        ImportTrie root = createTrie();
+        String name = "java.util.Map";
+        ImportTrie javaNode = root.getOrAddChild(name, 0, 4);
+        assertThat(javaNode).isSameAs(root.tryGetChild("java").get());
+        ImportTrie javaUtilNode = javaNode.getOrAddChild(name, 5, 9);
+        assertThat(javaUtilNode.getDepthIndex()).isEqualTo(1);
+        assertThat(javaNode.getChildCount()).isEqualTo(2);
+        assertThat(javaNode.getChild(0)).isSameAs(javaNode.tryGetChild("lang").get());
+        assertThat(javaNode.getChild(1)).isSameAs(javaUtilNode);
+    }
+
+    @Test
+    public void createRoot_ImplicitlyImportedPackages() {
+        ImportTrie root = ImportTrie.createRoot("org.example");
+        assertThat(root.getOrAddPath("java.lang").isImplicitlyImportedPackage()).isTrue();
+        assertThat(root.getOrAddPath("org.example").isImplicitlyImportedPackage())
+                .isTrue();
+        assertThat(root.getOrAddPath("org").isImplicitlyImportedPackage()).isFalse();
+    }
+
+    @Test
+    public void createRoot_CopyOnWrite() {
+        ImportTrie root1 = ImportTrie.createRoot("org.example");
+        root1.getOrAddPath("java.lang.String").setImportedType(ImportableType.ofClass(String.class));
+        ImportTrie root2 = ImportTrie.createRoot("org.example");
+        ImportTrie javaLangNode =
+                root2.tryGetChild("java").get().tryGetChild("lang").get();
+        assertThat(javaLangNode.isImplicitlyImportedPackage()).isTrue();
+        assertThat(javaLangNode.getChildren()).isEmpty();
+    }
+
+    @Test
+    public void error_setImportedType_Frozen() {
+        ImportTrie javaNode =
+                ImportTrie.createRoot("org.example").tryGetChild("java").get();
+        assertThatThrownBy(() -> javaNode.setImportedType(ImportableType.ofClass(String.class)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("trie is frozen");
+    }
+
     private static ImportTrie createTrie() {
         ImportTrie root = ImportTrie.createRoot();
         ImportTrie stringNode = root.getOrAddChild("java").getOrAddChild("lang").getOrAddChild("String");
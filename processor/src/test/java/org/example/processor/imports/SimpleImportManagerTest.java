@@ -61,6 +61,14 @@ public final class SimpleImportManagerTest {
         assertThat(importManager.implicitlyImportedTypes()).isEmpty();
     }
 
+    @Test
+    public void getImportDeclarations_JavaLangPackage() {
+        ImportManager importManager = SimpleImportManager.of("java.lang", Set.of(ImportableType.ofClass(String.class)));
+        assertThat(importManager.importDeclarations()).isEmpty();
+        assertThat(importManager.implicitlyImportedTypes())
+                .containsExactlyInAnyOrder(ImportableType.ofClass(String.class));
+    }
+
     @Test
     public void toSource_Imported() {
         ImportManager importManager = SimpleImportManager.of("org.example", Set.of(ImportableType.ofClass(Map.class)));
@@ -88,6 +96,19 @@ public final class SimpleImportManagerTest {
                 .isEqualTo("Entry");
     }
 
+    @Test
+    public void toSource_RepeatedReferences() {
+        ImportManager importManager = SimpleImportManager.of("org.example", Set.of(ImportableType.ofClass(Map.class)));
+        for (int i = 0; i < 2; i++) {
+            assertThat(importManager.toSource(ImportableType.ofClass(Map.class)))
+                    .isEqualTo("Map");
+            assertThat(importManager.toSource(ImportableType.ofClass(Map.Entry.class)))
+                    .isEqualTo("Map.Entry");
+            assertThat(importManager.toSource(ImportableType.ofClass(List.class)))
+                    .isEqualTo("java.util.List");
+        }
+    }
+
     @Test
     public void error_of_ConflictingImports() {
         String expectedMessage = String.join(
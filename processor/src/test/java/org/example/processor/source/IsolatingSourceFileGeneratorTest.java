@@ -24,6 +24,35 @@ public final class IsolatingSourceFileGeneratorTest {
         assertThat(sourceCode).isEqualTo("code");
     }
 
+    @Test
+    public void generateSourceFile_ReusedBuffer() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        IsolatingSourceFileGenerator<String, Element> generator = TestSourceFileGenerator.of(stringWriter);
+        generator.generateSourceFile("code1", mock(Element.class));
+        generator.generateSourceFile("code2", mock(Element.class));
+        String sourceCode = stringWriter.toString();
+        assertThat(sourceCode).isEqualTo("code1code2");
+    }
+
+    @Test
+    public void renderAndWriteSourceFile() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        IsolatingSourceFileGenerator<String, Element> generator = TestSourceFileGenerator.of(stringWriter);
+        CharSequence source = generator.renderSource("code");
+        assertThat(source).hasToString("code");
+        assertThat(stringWriter.toString()).isEmpty();
+        generator.writeSourceFile("code", source, mock(Element.class));
+        assertThat(stringWriter.toString()).isEqualTo("code");
+    }
+
+    @Test
+    public void writeSourceFile_String() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        IsolatingSourceFileGenerator<String, Element> generator = TestSourceFileGenerator.of(stringWriter);
+        generator.writeSourceFile("code", "cached code", mock(Element.class));
+        assertThat(stringWriter.toString()).isEqualTo("cached code");
+    }
+
     /** Writes the source code to a {@link StringWriter} when the source name is {@code test.Test}. */
     private static final class TestSourceFileGenerator extends IsolatingSourceFileGenerator<String, Element> {
 
@@ -37,6 +66,11 @@ public final class IsolatingSourceFileGeneratorTest {
             return "test.Test";
         }
 
+        @Override
+        protected int estimateSourceLength(String sourceCode) {
+            return sourceCode.length();
+        }
+
         @Override
         protected SourceGenerator<String> createSourceGenerator(String sourceCode) {
             return (writer, sc) -> writer.print(sc);
@@ -0,0 +1,99 @@
+package org.example.processor.source;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+public final class SourceWriterTest {
+
+    @Test
+    public void print() {
+        SourceWriter writer = new SourceWriter();
+        writer.print("a").print('b').println().println("c").format("%s%d", "d", 1);
+        assertThat(writer.toString()).isEqualTo("ab\nc\nd1");
+        assertThat(writer.length()).isEqualTo(7);
+    }
+
+    @Test
+    public void print_GrowBuffer() {
+        SourceWriter writer = new SourceWriter(1);
+        writer.print("abc").print('d').append("ef").append("xgx", 1, 2).append('h');
+        assertThat(writer.toString()).isEqualTo("abcdefgh");
+    }
+
+    @Test
+    public void ensureCapacity() {
+        SourceWriter writer = new SourceWriter(1);
+        writer.ensureCapacity(100);
+        assertThat(writer.capacity()).isEqualTo(100);
+        writer.ensureCapacity(10);
+        assertThat(writer.capacity()).isEqualTo(100);
+    }
+
+    @Test
+    public void indent() {
+        SourceWriter writer = new SourceWriter();
+        writer.println("class Test {").indent();
+        writer.println("int member;").println();
+        writer.print("void method()").println(" {").indent();
+        writer.println("return;").outdent();
+        writer.println("}").outdent();
+        writer.println("}");
+        assertThat(writer.toString())
+                .isEqualTo(String.join(
+                        "\n",
+                        "class Test {",
+                        "    int member;",
+                        "",
+                        "    void method() {",
+                        "        return;",
+                        "    }",
+                        "}",
+                        ""));
+    }
+
+    @Test
+    public void writeTo() throws IOException {
+        SourceWriter writer = new SourceWriter();
+        writer.println("code");
+        StringWriter stringWriter = new StringWriter();
+        writer.writeTo(stringWriter);
+        assertThat(stringWriter.toString()).isEqualTo("code\n");
+    }
+
+    @Test
+    public void clear() {
+        SourceWriter writer = new SourceWriter();
+        writer.indent().print("code");
+        writer.clear();
+        writer.print("code");
+        assertThat(writer.toString()).isEqualTo("code");
+    }
+
+    @Test
+    public void charSequence() {
+        SourceWriter writer = new SourceWriter();
+        writer.print("code");
+        assertThat(writer.charAt(1)).isEqualTo('o');
+        assertThat(writer.subSequence(1, 3)).isEqualTo("od");
+    }
+
+    @Test
+    public void error_charAt_OutOfBounds() {
+        // The buffer has extra capacity, but only the characters that have been written can be read.
+        SourceWriter writer = new SourceWriter(8);
+        writer.print("code");
+        assertThatThrownBy(() -> writer.charAt(4)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void error_outdent_NotIndented() {
+        SourceWriter writer = new SourceWriter();
+        assertThatThrownBy(writer::outdent)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("source is not indented");
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.processor.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public final class ProcessorStatsTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void disabled() throws IOException {
+        ProcessorStats stats = ProcessorStats.fromOptions(Map.of(), "stats");
+        assertThat(stats.isEnabled()).isFalse();
+        assertThat(stats.start("phase", "test.Element"))
+                .isSameAs(ProcessorStats.disabled().start("phase"));
+        stats.writeReport();
+        assertThat(tempDir).isEmptyDirectory();
+    }
+
+    @Test
+    public void writeReport() throws IOException {
+        Path reportPath = tempDir.resolve("stats/report.json");
+        ProcessorStats stats = ProcessorStats.fromOptions(Map.of("stats", reportPath.toString()), "stats");
+        assertThat(stats.isEnabled()).isTrue();
+        stats.startRound();
+        try (ProcessorStats.Span span = stats.start("model", "test.Element")) {}
+        try (ProcessorStats.Span span = stats.start("prepare")) {}
+        stats.startRound();
+        try (ProcessorStats.Span span = stats.start("model", "test.Element")) {}
+        stats.writeReport();
+
+        JsonNode report = new ObjectMapper().readTree(reportPath.toFile());
+        JsonNode rounds = report.get("rounds");
+        assertThat(rounds).hasSize(2);
+        assertThat(rounds.get(0).get("round").asInt()).isEqualTo(1);
+        assertThat(rounds.get(0).get("phases").has("prepare")).isTrue();
+        assertThat(rounds.get(1).get("phases").has("prepare")).isFalse();
+        JsonNode elementModelStats = report.get("elements").get("test.Element").get("model");
+        assertThat(elementModelStats.get("count").asLong()).isEqualTo(2);
+        assertThat(elementModelStats.get("nanos").asLong()).isNotNegative();
+        assertThat(elementModelStats.has("allocatedBytes")).isTrue();
+    }
+}
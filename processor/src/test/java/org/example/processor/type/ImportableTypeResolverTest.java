@@ -0,0 +1,47 @@
+package org.example.processor.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.lang.model.element.Name;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import org.junit.jupiter.api.Test;
+
+public final class ImportableTypeResolverTest {
+
+    @Test
+    public void resolve_Cached() {
+        Elements elementUtils = createElements();
+        TypeElement typeElement = mock(TypeElement.class);
+        ImportableTypeResolver typeResolver = new ImportableTypeResolver(new ImportableTypes(), elementUtils);
+        ImportableType type = typeResolver.resolve(typeElement);
+        assertThat(type).isEqualTo(ImportableType.of("test.TopLevel$Nested"));
+        assertThat(typeResolver.resolve(typeElement)).isSameAs(type);
+        verify(elementUtils, times(1)).getBinaryName(typeElement);
+    }
+
+    @Test
+    public void resolve_Cleared() {
+        Elements elementUtils = createElements();
+        TypeElement typeElement = mock(TypeElement.class);
+        ImportableTypeResolver typeResolver = new ImportableTypeResolver(new ImportableTypes(), elementUtils);
+        ImportableType type = typeResolver.resolve(typeElement);
+        typeResolver.clear();
+        assertThat(typeResolver.resolve(typeElement)).isSameAs(type);
+        verify(elementUtils, times(2)).getBinaryName(typeElement);
+    }
+
+    /** Creates a mock {@link Elements} where every type has the binary name {@code test.TopLevel$Nested}. */
+    private static Elements createElements() {
+        Name binaryName = mock(Name.class);
+        when(binaryName.toString()).thenReturn("test.TopLevel$Nested");
+        Elements elementUtils = mock(Elements.class);
+        when(elementUtils.getBinaryName(any())).thenReturn(binaryName);
+        return elementUtils;
+    }
+}
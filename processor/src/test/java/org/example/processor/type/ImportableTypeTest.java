@@ -93,6 +93,16 @@ public final class ImportableTypeTest {
         assertThat(type1.compareTo(type2)).isLessThan(0);
     }
 
+    @Test
+    public void compareTo_NestedType() {
+        ImportableType type1 = ImportableType.of("test.Outer$Inner");
+        ImportableType type2 = ImportableType.of("test.Outer.Inner2");
+        ImportableType type3 = ImportableType.of("test.Outer0");
+        assertThat(type1.compareTo(type2)).isLessThan(0);
+        assertThat(type1.compareTo(type3)).isLessThan(0);
+        assertThat(type1.compareTo(ImportableType.of("test.Outer.Inner"))).isEqualTo(0);
+    }
+
     @Test
     public void serializeAndDeserialize() throws JsonProcessingException {
         ObjectMapper mapper = new ObjectMapper();
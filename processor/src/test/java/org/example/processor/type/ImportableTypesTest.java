@@ -0,0 +1,25 @@
+package org.example.processor.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public final class ImportableTypesTest {
+
+    @Test
+    public void of_Interned() {
+        ImportableTypes importableTypes = new ImportableTypes();
+        ImportableType type = importableTypes.of("test.TopLevel$Nested");
+        assertThat(type).isEqualTo(ImportableType.of("test.TopLevel$Nested"));
+        assertThat(importableTypes.of("test.TopLevel$Nested")).isSameAs(type);
+        assertThat(importableTypes.of("test.TopLevel")).isNotSameAs(type);
+    }
+
+    @Test
+    public void ofPackageAndClass_Interned() {
+        ImportableTypes importableTypes = new ImportableTypes();
+        ImportableType type = importableTypes.ofPackageAndClass("test", "TopLevel.Nested");
+        assertThat(type).isEqualTo(ImportableType.of("test.TopLevel$Nested"));
+        assertThat(importableTypes.of("test.TopLevel$Nested")).isSameAs(type);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.processor.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import org.junit.jupiter.api.Test;
+
+public final class TopLevelTypeResolverTest {
+
+    @Test
+    public void find_Cached() {
+        TypeElement typeElement = createTypeElement("TopLevel");
+        Elements elementUtils = createElements(typeElement);
+        TopLevelTypeResolver resolver = new TopLevelTypeResolver(elementUtils);
+        assertThat(resolver.find(ImportableType.of("test.TopLevel"))).containsSame(typeElement);
+        assertThat(resolver.find(ImportableType.of("test.Missing"))).isEmpty();
+        assertThat(resolver.find(ImportableType.of("test.Missing"))).isEmpty();
+        verify(elementUtils, times(1)).getAllPackageElements("test");
+    }
+
+    @Test
+    public void find_Cleared() {
+        TypeElement typeElement = createTypeElement("TopLevel");
+        Elements elementUtils = createElements(typeElement);
+        TopLevelTypeResolver resolver = new TopLevelTypeResolver(elementUtils);
+        assertThat(resolver.find(ImportableType.of("test.TopLevel"))).containsSame(typeElement);
+        resolver.clear();
+        assertThat(resolver.find(ImportableType.of("test.TopLevel"))).containsSame(typeElement);
+        verify(elementUtils, times(2)).getAllPackageElements("test");
+    }
+
+    @Test
+    public void error_find_NestedType() {
+        TopLevelTypeResolver resolver = new TopLevelTypeResolver(mock(Elements.class));
+        assertThatThrownBy(() -> resolver.find(ImportableType.of("test.TopLevel$Nested")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** Creates a mock {@link Elements} where the {@code test} package only contains the provided type. */
+    private static Elements createElements(TypeElement typeElement) {
+        PackageElement packageElement = mock(PackageElement.class);
+        when(packageElement.getEnclosedElements()).thenAnswer(invocation -> List.of(typeElement));
+        Elements elementUtils = mock(Elements.class);
+        when(elementUtils.getAllPackageElements("test")).thenAnswer(invocation -> Set.of(packageElement));
+        return elementUtils;
+    }
+
+    /** Creates a mock {@link TypeElement} with the provided simple name. */
+    private static TypeElement createTypeElement(String simpleName) {
+        Name name = mock(Name.class);
+        when(name.toString()).thenReturn(simpleName);
+        TypeElement typeElement = mock(TypeElement.class);
+        when(typeElement.getSimpleName()).thenReturn(name);
+        when(typeElement.getKind()).thenReturn(ElementKind.INTERFACE);
+        return typeElement;
+    }
+}
@@ -1,6 +1,7 @@
 rootProject.name = "immutable"
 
 include(
+        "benchmarks",
         "immutable-annotations",
         "immutable-example",
         "immutable-processor",